@@ -0,0 +1,175 @@
+package com.alexvasilkov.gestures.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Size;
+
+/**
+ * Android-independent computation of rotated rectangles bounds, used for movement bounds.
+ * <p>
+ * Rotations by right angles (0, 90, 180 and 270 degrees) are the most common case, so they are
+ * handled with closed-form math instead of rotating rectangle corners.
+ */
+@SuppressWarnings("WeakerAccess") // Public API
+public class BoundsMath {
+
+    private BoundsMath() {}
+
+    /**
+     * @param rotation Rotation in degrees
+     * @return Number of quarter turns (from 0 to 3) if rotation is a right angle,
+     * or -1 otherwise.
+     */
+    public static int getQuarterTurns(float rotation) {
+        final int turns = Math.round(rotation / 90f);
+        if (StateMath.equals(rotation, turns * 90f)) {
+            final int result = turns % 4;
+            return result < 0 ? result + 4 : result;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Replaces given rectangle with the bounding rectangle of itself rotated around pivot point.
+     *
+     * @param rect Rectangle to be rotated in place
+     * @param rotation Rotation in degrees
+     * @param pivotX Pivot point's X coordinate
+     * @param pivotY Pivot point's Y coordinate
+     */
+    public static void rotateRect(
+            @NonNull FloatRect rect,
+            float rotation,
+            float pivotX,
+            float pivotY
+    ) {
+        final int quarterTurns = getQuarterTurns(rotation);
+        if (quarterTurns >= 0) {
+            rotateRectByQuarterTurns(rect, quarterTurns, pivotX, pivotY);
+        } else {
+            rotateRectByAngle(rect, rotation, pivotX, pivotY);
+        }
+    }
+
+    /**
+     * Computes offset of the top-left corner of the rectangle of given size rotated around its
+     * top-left corner, relative to top-left corner of its bounding rectangle.
+     *
+     * @param width Rectangle width
+     * @param height Rectangle height
+     * @param rotation Rotation in degrees
+     * @param out Resulting offset (output), {@code [x, y]}
+     */
+    public static void getRotatedOrigin(
+            float width,
+            float height,
+            float rotation,
+            @NonNull @Size(2) float[] out
+    ) {
+        final int quarterTurns = getQuarterTurns(rotation);
+        if (quarterTurns >= 0) {
+            getRotatedOriginByQuarterTurns(width, height, quarterTurns, out);
+        } else {
+            getRotatedOriginByAngle(width, height, rotation, out);
+        }
+    }
+
+
+    static void rotateRectByQuarterTurns(
+            FloatRect rect,
+            int quarterTurns,
+            float pivotX,
+            float pivotY
+    ) {
+        // Rotating by 180 degrees around rectangle's center does not change it, so we only need
+        // to rotate rectangle's center and to swap its sides for odd number of turns
+        final float halfW = 0.5f * (quarterTurns % 2 == 0 ? rect.width() : rect.height());
+        final float halfH = 0.5f * (quarterTurns % 2 == 0 ? rect.height() : rect.width());
+        final float dx = rect.centerX() - pivotX;
+        final float dy = rect.centerY() - pivotY;
+
+        final float centerX;
+        final float centerY;
+        switch (quarterTurns) {
+            case 1:
+                centerX = pivotX - dy;
+                centerY = pivotY + dx;
+                break;
+            case 2:
+                centerX = pivotX - dx;
+                centerY = pivotY - dy;
+                break;
+            case 3:
+                centerX = pivotX + dy;
+                centerY = pivotY - dx;
+                break;
+            case 0:
+            default:
+                centerX = pivotX + dx;
+                centerY = pivotY + dy;
+                break;
+        }
+
+        rect.set(centerX - halfW, centerY - halfH, centerX + halfW, centerY + halfH);
+    }
+
+    static void rotateRectByAngle(FloatRect rect, float rotation, float pivotX, float pivotY) {
+        final double angle = Math.toRadians(rotation);
+        final float cos = (float) Math.cos(angle);
+        final float sin = (float) Math.sin(angle);
+
+        final float left = rect.left - pivotX;
+        final float top = rect.top - pivotY;
+        final float right = rect.right - pivotX;
+        final float bottom = rect.bottom - pivotY;
+
+        rect.set(pivotX + left * cos - top * sin, pivotY + left * sin + top * cos,
+                pivotX + left * cos - top * sin, pivotY + left * sin + top * cos);
+        rect.union(pivotX + right * cos - top * sin, pivotY + right * sin + top * cos);
+        rect.union(pivotX + left * cos - bottom * sin, pivotY + left * sin + bottom * cos);
+        rect.union(pivotX + right * cos - bottom * sin, pivotY + right * sin + bottom * cos);
+    }
+
+    static void getRotatedOriginByQuarterTurns(
+            float width,
+            float height,
+            int quarterTurns,
+            float[] out
+    ) {
+        switch (quarterTurns) {
+            case 1:
+                out[0] = height;
+                out[1] = 0f;
+                break;
+            case 2:
+                out[0] = width;
+                out[1] = height;
+                break;
+            case 3:
+                out[0] = 0f;
+                out[1] = width;
+                break;
+            case 0:
+            default:
+                out[0] = 0f;
+                out[1] = 0f;
+                break;
+        }
+    }
+
+    static void getRotatedOriginByAngle(float width, float height, float rotation, float[] out) {
+        final double angle = Math.toRadians(rotation);
+        final float cos = (float) Math.cos(angle);
+        final float sin = (float) Math.sin(angle);
+
+        // Top-left corner of the bounding rectangle is formed by the smallest coordinates
+        // among the rotated corners, the origin corner stays at (0, 0)
+        final float wx = width * cos;
+        final float wy = width * sin;
+        final float hx = -height * sin;
+        final float hy = height * cos;
+        out[0] = -Math.min(Math.min(0f, wx), Math.min(hx, wx + hx));
+        out[1] = -Math.min(Math.min(0f, wy), Math.min(hy, wy + hy));
+    }
+
+}
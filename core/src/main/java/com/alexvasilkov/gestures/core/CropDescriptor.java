@@ -0,0 +1,170 @@
+package com.alexvasilkov.gestures.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.Size;
+
+/**
+ * Compact description of image crop, which does not depend on image resolution: crop area center
+ * and size relative to image size, rotation and output size. Can be used to crop original
+ * (full resolution) image elsewhere, i.e. on server, instead of rasterizing it on device.
+ * <p>
+ * To produce the crop, source image should be rotated by {@link #getRotation()} degrees
+ * (clockwise, Y axis pointing down) around crop center and then cropped with
+ * {@link #getSourceRect(float, float, FloatRect)} rectangle. If rotation is 0 the source
+ * rectangle can be used directly.
+ * <p>
+ * Descriptor can be stored as a plain array of floats, see {@link #toArray(float[])} and
+ * {@link #fromArray(float[])}.
+ */
+@SuppressWarnings("WeakerAccess") // Public API
+public class CropDescriptor {
+
+    /**
+     * Size of the array needed to store the descriptor, see {@link #toArray(float[])}.
+     */
+    public static final int SIZE = 7;
+
+    private final float centerX;
+    private final float centerY;
+    private final float width;
+    private final float height;
+    private final float rotation;
+    private final int outputWidth;
+    private final int outputHeight;
+
+    /**
+     * @param centerX X coordinate of crop center, relative to image width
+     * @param centerY Y coordinate of crop center, relative to image height
+     * @param width Crop width relative to image width
+     * @param height Crop height relative to image height
+     * @param rotation Image rotation in degrees
+     * @param outputWidth Width of cropped image at the resolution used to compute the crop
+     * @param outputHeight Height of cropped image at the resolution used to compute the crop
+     */
+    public CropDescriptor(float centerX, float centerY, float width, float height,
+            float rotation, int outputWidth, int outputHeight) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.width = width;
+        this.height = height;
+        this.rotation = rotation;
+        this.outputWidth = outputWidth;
+        this.outputHeight = outputHeight;
+    }
+
+    public float getCenterX() {
+        return centerX;
+    }
+
+    public float getCenterY() {
+        return centerY;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    /**
+     * @return Rotation in degrees within the range [-180..180].
+     */
+    public float getRotation() {
+        return rotation;
+    }
+
+    public int getOutputWidth() {
+        return outputWidth;
+    }
+
+    public int getOutputHeight() {
+        return outputHeight;
+    }
+
+    /**
+     * Computes crop rectangle in source image coordinates, before rotation is applied
+     * (see class description).
+     *
+     * @param sourceWidth Source image width
+     * @param sourceHeight Source image height
+     * @param out Crop rectangle (output)
+     */
+    public void getSourceRect(float sourceWidth, float sourceHeight, @NonNull FloatRect out) {
+        final float halfWidth = 0.5f * width * sourceWidth;
+        final float halfHeight = 0.5f * height * sourceHeight;
+        final float x = centerX * sourceWidth;
+        final float y = centerY * sourceHeight;
+        out.set(x - halfWidth, y - halfHeight, x + halfWidth, y + halfHeight);
+    }
+
+    /**
+     * Stores this descriptor into array of size {@link #SIZE}.
+     *
+     * @param out Output array
+     */
+    public void toArray(@NonNull @Size(SIZE) float[] out) {
+        out[0] = centerX;
+        out[1] = centerY;
+        out[2] = width;
+        out[3] = height;
+        out[4] = rotation;
+        out[5] = outputWidth;
+        out[6] = outputHeight;
+    }
+
+    /**
+     * Reads descriptor stored with {@link #toArray(float[])}.
+     *
+     * @param in Array of size {@link #SIZE}
+     * @return Crop descriptor
+     */
+    @NonNull
+    public static CropDescriptor fromArray(@NonNull @Size(SIZE) float[] in) {
+        return new CropDescriptor(in[0], in[1], in[2], in[3], in[4],
+                Math.round(in[5]), Math.round(in[6]));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        CropDescriptor other = (CropDescriptor) obj;
+
+        return Float.compare(other.centerX, centerX) == 0
+                && Float.compare(other.centerY, centerY) == 0
+                && Float.compare(other.width, width) == 0
+                && Float.compare(other.height, height) == 0
+                && Float.compare(other.rotation, rotation) == 0
+                && other.outputWidth == outputWidth
+                && other.outputHeight == outputHeight;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Float.floatToIntBits(centerX);
+        result = 31 * result + Float.floatToIntBits(centerY);
+        result = 31 * result + Float.floatToIntBits(width);
+        result = 31 * result + Float.floatToIntBits(height);
+        result = 31 * result + Float.floatToIntBits(rotation);
+        result = 31 * result + outputWidth;
+        result = 31 * result + outputHeight;
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "{centerX=" + centerX + ",centerY=" + centerY + ",width=" + width
+                + ",height=" + height + ",rotation=" + rotation
+                + ",output=" + outputWidth + "x" + outputHeight + "}";
+    }
+
+}
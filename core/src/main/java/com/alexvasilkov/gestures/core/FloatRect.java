@@ -0,0 +1,74 @@
+package com.alexvasilkov.gestures.core;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Simple mutable rectangle with float coordinates, Android-independent counterpart of
+ * {@code android.graphics.RectF}.
+ */
+@SuppressWarnings("WeakerAccess") // Public API (fields and methods)
+public class FloatRect {
+
+    public float left;
+    public float top;
+    public float right;
+    public float bottom;
+
+    public FloatRect() {}
+
+    public FloatRect(float left, float top, float right, float bottom) {
+        set(left, top, right, bottom);
+    }
+
+    public void set(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public void set(@NonNull FloatRect other) {
+        set(other.left, other.top, other.right, other.bottom);
+    }
+
+    public float width() {
+        return right - left;
+    }
+
+    public float height() {
+        return bottom - top;
+    }
+
+    public float centerX() {
+        return 0.5f * (left + right);
+    }
+
+    public float centerY() {
+        return 0.5f * (top + bottom);
+    }
+
+    public boolean isEmpty() {
+        return left >= right || top >= bottom;
+    }
+
+    /**
+     * Extends this rectangle to include given point. Rectangle should be initialized with
+     * {@link #set(float, float, float, float)} beforehand.
+     *
+     * @param x Point's X coordinate
+     * @param y Point's Y coordinate
+     */
+    public void union(float x, float y) {
+        left = Math.min(left, x);
+        top = Math.min(top, y);
+        right = Math.max(right, x);
+        bottom = Math.max(bottom, y);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "FloatRect(" + left + ", " + top + ", " + right + ", " + bottom + ")";
+    }
+
+}
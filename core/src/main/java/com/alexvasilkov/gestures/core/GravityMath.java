@@ -0,0 +1,114 @@
+package com.alexvasilkov.gestures.core;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Android-independent implementation of {@code android.view.Gravity.apply()} method. Gravity
+ * constants are the same as in {@code android.view.Gravity}, relative gravity (start / end)
+ * is treated as left-to-right.
+ */
+@SuppressWarnings("WeakerAccess") // Public API
+public class GravityMath {
+
+    public static final int NO_GRAVITY = 0x0000;
+    public static final int LEFT = 0x03;
+    public static final int RIGHT = 0x05;
+    public static final int TOP = 0x30;
+    public static final int BOTTOM = 0x50;
+    public static final int CENTER_HORIZONTAL = 0x01;
+    public static final int CENTER_VERTICAL = 0x10;
+    public static final int CENTER = 0x11;
+    public static final int FILL_HORIZONTAL = 0x07;
+    public static final int FILL_VERTICAL = 0x70;
+    public static final int FILL = 0x77;
+
+    private static final int AXIS_PULL_BEFORE = 0x0002;
+    private static final int AXIS_PULL_AFTER = 0x0004;
+    private static final int AXIS_CLIP = 0x0008;
+    private static final int AXIS_X_SHIFT = 0;
+    private static final int AXIS_Y_SHIFT = 4;
+
+    private static final int AXIS_MASK = AXIS_PULL_BEFORE | AXIS_PULL_AFTER;
+
+    private GravityMath() {}
+
+    /**
+     * Places rectangle of given size within container rectangle according to gravity.
+     *
+     * @param gravity Gravity, see {@code android.view.Gravity}
+     * @param width Width of the object to place
+     * @param height Height of the object to place
+     * @param containerWidth Width of the container, starting at 0
+     * @param containerHeight Height of the container, starting at 0
+     * @param out Resulting object position (output), all coordinates are integers
+     */
+    public static void apply(
+            int gravity,
+            int width,
+            int height,
+            int containerWidth,
+            int containerHeight,
+            @NonNull FloatRect out
+    ) {
+        final int left;
+        final int right;
+        switch (gravity & (AXIS_MASK << AXIS_X_SHIFT)) {
+            case 0:
+                left = (containerWidth - width) / 2;
+                right = clip(gravity >> AXIS_X_SHIFT, left + width, containerWidth, true);
+                break;
+            case AXIS_PULL_BEFORE << AXIS_X_SHIFT:
+                left = 0;
+                right = clip(gravity >> AXIS_X_SHIFT, width, containerWidth, true);
+                break;
+            case AXIS_PULL_AFTER << AXIS_X_SHIFT:
+                right = containerWidth;
+                left = clip(gravity >> AXIS_X_SHIFT, right - width, 0, false);
+                break;
+            default:
+                left = 0;
+                right = containerWidth;
+                break;
+        }
+
+        final int top;
+        final int bottom;
+        switch (gravity & (AXIS_MASK << AXIS_Y_SHIFT)) {
+            case 0:
+                top = (containerHeight - height) / 2;
+                bottom = clip(gravity >> AXIS_Y_SHIFT, top + height, containerHeight, true);
+                break;
+            case AXIS_PULL_BEFORE << AXIS_Y_SHIFT:
+                top = 0;
+                bottom = clip(gravity >> AXIS_Y_SHIFT, height, containerHeight, true);
+                break;
+            case AXIS_PULL_AFTER << AXIS_Y_SHIFT:
+                bottom = containerHeight;
+                top = clip(gravity >> AXIS_Y_SHIFT, bottom - height, 0, false);
+                break;
+            default:
+                top = 0;
+                bottom = containerHeight;
+                break;
+        }
+
+        // Centered position is clipped from both sides
+        final boolean clipCenterX = (gravity & (AXIS_MASK << AXIS_X_SHIFT)) == 0
+                && ((gravity >> AXIS_X_SHIFT) & AXIS_CLIP) != 0;
+        final boolean clipCenterY = (gravity & (AXIS_MASK << AXIS_Y_SHIFT)) == 0
+                && ((gravity >> AXIS_Y_SHIFT) & AXIS_CLIP) != 0;
+
+        out.set(clipCenterX ? Math.max(left, 0) : left,
+                clipCenterY ? Math.max(top, 0) : top,
+                right,
+                bottom);
+    }
+
+    private static int clip(int axisGravity, int value, int limit, boolean isMax) {
+        if ((axisGravity & AXIS_CLIP) == 0) {
+            return value;
+        }
+        return isMax ? Math.min(value, limit) : Math.max(value, limit);
+    }
+
+}
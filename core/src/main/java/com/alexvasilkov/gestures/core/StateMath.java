@@ -0,0 +1,172 @@
+package com.alexvasilkov.gestures.core;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Android-independent math used to restrict and interpolate states.
+ */
+public class StateMath {
+
+    public static final float EPSILON = 0.001f;
+
+    private StateMath() {}
+
+    /**
+     * Compares two float values, allowing small difference (see {@link #EPSILON}).
+     *
+     * @param v1 First value
+     * @param v2 Second value
+     * @return True if both values are close enough to be considered as equal
+     */
+    public static boolean equals(float v1, float v2) {
+        return v1 >= v2 - EPSILON && v1 <= v2 + EPSILON;
+    }
+
+    /**
+     * Compares two float values, allowing small difference (see {@link #EPSILON}).
+     *
+     * @param v1 First value
+     * @param v2 Second value
+     * @return Positive int if first value is greater than second, negative int if second value
+     * is greater than first or 0 if both values are close enough to be considered as equal
+     */
+    public static int compare(float v1, float v2) {
+        return v1 > v2 + EPSILON ? 1 : v1 < v2 - EPSILON ? -1 : 0;
+    }
+
+    /**
+     * Keeps value within provided bounds.
+     *
+     * @param value Value to be restricted
+     * @param minValue Min value
+     * @param maxValue Max value
+     * @return Restricted value
+     */
+    public static float restrict(float value, float minValue, float maxValue) {
+        return Math.max(minValue, Math.min(value, maxValue));
+    }
+
+    /**
+     * Interpolates from start value to the end one by given factor (from 0 to 1).
+     *
+     * @param start Start value
+     * @param end End value
+     * @param factor Factor
+     * @return Interpolated value
+     */
+    public static float interpolate(float start, float end, float factor) {
+        return start + (end - start) * factor;
+    }
+
+    /**
+     * Interpolates {@code count} states at once. All operations (translation, zoom, rotation)
+     * are performed within specified pivot points, assuming start and end pivot points represent
+     * same physical point on the image.
+     * <p>
+     * States are stored in arrays of size {@code 4 * count}, where first {@code count} elements
+     * are X coordinates, next {@code count} elements are Y coordinates, then zoom levels and then
+     * rotations. Pivot points are stored in arrays of size {@code 2 * count}, where first
+     * {@code count} elements are X coordinates and next {@code count} elements are Y coordinates.
+     * <p>
+     * Note, that X and Y coordinates of end states are not used.
+     *
+     * @param out Interpolated states (output)
+     * @param start Start states
+     * @param startPivots Pivot points in start states coordinates
+     * @param end End states
+     * @param endPivots Pivot points in end states coordinates
+     * @param count Number of states
+     * @param factor Factor
+     */
+    public static void interpolate(
+            @NonNull float[] out,
+            @NonNull float[] start,
+            @NonNull float[] startPivots,
+            @NonNull float[] end,
+            @NonNull float[] endPivots,
+            int count,
+            float factor
+    ) {
+        for (int i = 0; i < count; i++) {
+            final int yi = i + count;
+            final int zoomI = yi + count;
+            final int rotationI = zoomI + count;
+
+            final float pivotX = startPivots[i];
+            final float pivotY = startPivots[yi];
+
+            float posX = start[i];
+            float posY = start[yi];
+            float zoom = start[zoomI];
+            float rotation = start[rotationI];
+
+            // Zooming around pivot point
+            if (!equals(zoom, end[zoomI])) {
+                final float newZoom = interpolate(zoom, end[zoomI], factor);
+                final float scale = newZoom / zoom;
+                posX = pivotX + scale * (posX - pivotX);
+                posY = pivotY + scale * (posY - pivotY);
+                zoom = newZoom;
+            }
+
+            // Rotating around pivot point
+            final float newRotation = interpolateRotation(rotation, end[rotationI], factor);
+            if (!Float.isNaN(newRotation)) {
+                final double angle = Math.toRadians(newRotation - rotation);
+                final float cos = (float) Math.cos(angle);
+                final float sin = (float) Math.sin(angle);
+                final float dx = posX - pivotX;
+                final float dy = posY - pivotY;
+                posX = pivotX + cos * dx - sin * dy;
+                posY = pivotY + sin * dx + cos * dy;
+                rotation = normalizeRotation(newRotation);
+            }
+
+            out[i] = posX + interpolate(0f, endPivots[i] - pivotX, factor);
+            out[yi] = posY + interpolate(0f, endPivots[yi] - pivotY, factor);
+            out[zoomI] = zoom;
+            out[rotationI] = rotation;
+        }
+    }
+
+    /**
+     * Interpolates rotation choosing the shortest path.
+     *
+     * @param startRotation Start rotation in degrees
+     * @param endRotation End rotation in degrees
+     * @param factor Factor
+     * @return Interpolated rotation or {@link Float#NaN} if no rotation is needed.
+     */
+    public static float interpolateRotation(float startRotation, float endRotation, float factor) {
+        // Choosing shortest path to interpolate
+        if (Math.abs(startRotation - endRotation) <= 180f) {
+            if (!equals(startRotation, endRotation)) {
+                return interpolate(startRotation, endRotation, factor);
+            }
+        } else {
+            // Keeping rotation positive
+            float startRotationPositive = startRotation < 0f ? startRotation + 360f : startRotation;
+            float endRotationPositive = endRotation < 0f ? endRotation + 360f : endRotation;
+
+            if (!equals(startRotationPositive, endRotationPositive)) {
+                return interpolate(startRotationPositive, endRotationPositive, factor);
+            }
+        }
+        return Float.NaN;
+    }
+
+    /**
+     * @param rotation Rotation in degrees
+     * @return Same rotation within the range [-180..180].
+     */
+    public static float normalizeRotation(float rotation) {
+        while (rotation < -180f) {
+            rotation += 360f;
+        }
+        while (rotation > 180f) {
+            rotation -= 360f;
+        }
+        return rotation;
+    }
+
+}
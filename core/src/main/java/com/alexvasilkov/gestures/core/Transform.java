@@ -0,0 +1,227 @@
+package com.alexvasilkov.gestures.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.Size;
+
+/**
+ * Android-independent counterpart of {@code com.alexvasilkov.gestures.State}: 2d transformation
+ * consisting of translation, zoom and rotation. Can be used to replay states captured on device
+ * (i.e. zoom and crop) on the JVM.
+ * <p>
+ * Image point {@code (px, py)} is mapped to viewport point
+ * {@code (x + zoom * (cos * px - sin * py), y + zoom * (sin * px + cos * py))}, where
+ * {@code cos} and {@code sin} are computed for the rotation angle. That is the same as
+ * {@code State}'s matrix: scale, rotate and then translate.
+ */
+@SuppressWarnings("WeakerAccess") // Public API
+public class Transform {
+
+    private float x;
+    private float y;
+    private float zoom = 1f;
+    private float rotation;
+
+    // Cached rotation sine and cosine, only valid for current rotation
+    private float cachedRotation;
+    private float cos = 1f;
+    private float sin;
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getZoom() {
+        return zoom;
+    }
+
+    /**
+     * @return Rotation in degrees within the range [-180..180].
+     */
+    public float getRotation() {
+        return rotation;
+    }
+
+    /**
+     * @return {@code true} if {@code x == 0f && y == 0f && zoom == 1f && rotation == 0f}
+     */
+    public boolean isEmpty() {
+        return x == 0f && y == 0f && zoom == 1f && rotation == 0f;
+    }
+
+    public void translateBy(float dx, float dy) {
+        x += nonNaN(dx);
+        y += nonNaN(dy);
+    }
+
+    public void translateTo(float x, float y) {
+        this.x = nonNaN(x);
+        this.y = nonNaN(y);
+    }
+
+    public void zoomBy(float factor, float pivotX, float pivotY) {
+        nonNaN(factor);
+        x = nonNaN(pivotX) + factor * (x - pivotX);
+        y = nonNaN(pivotY) + factor * (y - pivotY);
+        zoom = nonNaN(zoom * Math.abs(factor));
+        if (factor < 0f) {
+            // Negative scale is the same as rotation by 180 degrees
+            rotation = StateMath.normalizeRotation(rotation + 180f);
+        }
+    }
+
+    public void zoomTo(float zoom, float pivotX, float pivotY) {
+        zoomBy(nonNaN(zoom) / this.zoom, pivotX, pivotY);
+    }
+
+    public void rotateBy(float angle, float pivotX, float pivotY) {
+        final double radians = Math.toRadians(nonNaN(angle));
+        final float angleCos = (float) Math.cos(radians);
+        final float angleSin = (float) Math.sin(radians);
+        final float dx = x - nonNaN(pivotX);
+        final float dy = y - nonNaN(pivotY);
+        x = pivotX + angleCos * dx - angleSin * dy;
+        y = pivotY + angleSin * dx + angleCos * dy;
+        rotation = StateMath.normalizeRotation(rotation + angle);
+    }
+
+    public void rotateTo(float angle, float pivotX, float pivotY) {
+        rotateBy(nonNaN(angle) - rotation, pivotX, pivotY);
+    }
+
+    public void set(float x, float y, float zoom, float rotation) {
+        this.x = nonNaN(x);
+        this.y = nonNaN(y);
+        this.zoom = nonNaN(zoom);
+        this.rotation = StateMath.normalizeRotation(nonNaN(rotation));
+    }
+
+    public void set(@NonNull Transform other) {
+        set(other.x, other.y, other.zoom, other.rotation);
+    }
+
+    @NonNull
+    public Transform copy() {
+        Transform copy = new Transform();
+        copy.set(this);
+        return copy;
+    }
+
+    /**
+     * Maps image point into viewport coordinates.
+     *
+     * @param point Point to be mapped in place, {@code [x, y]}
+     */
+    public void mapPoint(@NonNull @Size(2) float[] point) {
+        updateSinCos();
+        final float px = point[0];
+        final float py = point[1];
+        point[0] = x + zoom * (cos * px - sin * py);
+        point[1] = y + zoom * (sin * px + cos * py);
+    }
+
+    /**
+     * Maps viewport point into image coordinates, inverse of {@link #mapPoint(float[])}.
+     *
+     * @param point Point to be mapped in place, {@code [x, y]}
+     */
+    public void mapPointInverse(@NonNull @Size(2) float[] point) {
+        updateSinCos();
+        final float dx = (point[0] - x) / zoom;
+        final float dy = (point[1] - y) / zoom;
+        point[0] = cos * dx + sin * dy;
+        point[1] = -sin * dx + cos * dy;
+    }
+
+    /**
+     * Computes bounding rectangle of the image of given size in viewport coordinates.
+     *
+     * @param width Image width
+     * @param height Image height
+     * @param out Output rectangle
+     */
+    public void mapImageBounds(float width, float height, @NonNull FloatRect out) {
+        updateSinCos();
+        final float wx = zoom * cos * width;
+        final float wy = zoom * sin * width;
+        final float hx = -zoom * sin * height;
+        final float hy = zoom * cos * height;
+        out.set(x, y, x, y);
+        out.union(x + wx, y + wy);
+        out.union(x + hx, y + hy);
+        out.union(x + wx + hx, y + wy + hy);
+    }
+
+    /**
+     * Stores transformation matrix values in {@code android.graphics.Matrix} order, that is
+     * {@code [scaleX, skewX, transX, skewY, scaleY, transY, persp0, persp1, persp2]}.
+     * Same values can be used with {@code java.awt.geom.AffineTransform} as
+     * {@code new AffineTransform(v[0], v[3], v[1], v[4], v[2], v[5])}.
+     *
+     * @param out Array of size 9 (output)
+     */
+    public void getValues(@NonNull @Size(9) float[] out) {
+        updateSinCos();
+        out[0] = zoom * cos;
+        out[1] = -zoom * sin;
+        out[2] = x;
+        out[3] = zoom * sin;
+        out[4] = zoom * cos;
+        out[5] = y;
+        out[6] = 0f;
+        out[7] = 0f;
+        out[8] = 1f;
+    }
+
+    private void updateSinCos() {
+        if (cachedRotation != rotation) {
+            final double radians = Math.toRadians(rotation);
+            cos = (float) Math.cos(radians);
+            sin = (float) Math.sin(radians);
+            cachedRotation = rotation;
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        Transform other = (Transform) obj;
+
+        return StateMath.equals(other.x, x) && StateMath.equals(other.y, y)
+                && StateMath.equals(other.zoom, zoom)
+                && StateMath.equals(other.rotation, rotation);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (x != +0.0f ? Float.floatToIntBits(x) : 0);
+        result = 31 * result + (y != +0.0f ? Float.floatToIntBits(y) : 0);
+        result = 31 * result + (zoom != +0.0f ? Float.floatToIntBits(zoom) : 0);
+        result = 31 * result + (rotation != +0.0f ? Float.floatToIntBits(rotation) : 0);
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "{x=" + x + ",y=" + y + ",zoom=" + zoom + ",rotation=" + rotation + "}";
+    }
+
+    private static float nonNaN(float value) {
+        if (Float.isNaN(value)) {
+            throw new IllegalArgumentException("Provided float is NaN");
+        }
+        return value;
+    }
+
+}
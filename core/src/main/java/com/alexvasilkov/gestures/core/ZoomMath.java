@@ -0,0 +1,135 @@
+package com.alexvasilkov.gestures.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Size;
+
+/**
+ * Android-independent computation of min, max and "fit" zoom levels.
+ */
+@SuppressWarnings("WeakerAccess") // Public API
+public class ZoomMath {
+
+    public static final int MIN = 0;
+    public static final int MAX = 1;
+    public static final int FIT = 2;
+
+    private ZoomMath() {}
+
+    /**
+     * Computes zoom level needed to fit image into movement area using given fit method,
+     * taking rotation into account.
+     *
+     * @param fit Fit method
+     * @param imageWidth Image width
+     * @param imageHeight Image height
+     * @param areaWidth Movement area width
+     * @param areaHeight Movement area height
+     * @param rotation Image rotation in degrees
+     * @return Fit zoom level
+     */
+    public static float computeFitZoom(
+            @NonNull Fit fit,
+            float imageWidth,
+            float imageHeight,
+            float areaWidth,
+            float areaHeight,
+            float rotation
+    ) {
+        if (!StateMath.equals(rotation, 0f)) {
+            final double angle = Math.toRadians(rotation);
+            final float cos = (float) Math.abs(Math.cos(angle));
+            final float sin = (float) Math.abs(Math.sin(angle));
+
+            if (fit == Fit.OUTSIDE) {
+                // Computing movement area size taking rotation into account. Rotation direction
+                // does not matter since we only need bounding box size.
+                final float width = areaWidth * cos + areaHeight * sin;
+                areaHeight = areaWidth * sin + areaHeight * cos;
+                areaWidth = width;
+            } else {
+                // Computing image bounding size taking rotation into account.
+                final float width = imageWidth * cos + imageHeight * sin;
+                imageHeight = imageWidth * sin + imageHeight * cos;
+                imageWidth = width;
+            }
+        }
+
+        switch (fit) {
+            case HORIZONTAL:
+                return areaWidth / imageWidth;
+            case VERTICAL:
+                return areaHeight / imageHeight;
+            case INSIDE:
+                return Math.min(areaWidth / imageWidth, areaHeight / imageHeight);
+            case OUTSIDE:
+            default:
+                return Math.max(areaWidth / imageWidth, areaHeight / imageHeight);
+        }
+    }
+
+    /**
+     * Resolves final zoom bounds so that {@code minZoom <= fitZoom <= maxZoom}.
+     *
+     * @param minZoom Requested min zoom, or 0 to use fit zoom
+     * @param maxZoom Requested max zoom, or 0 to use fit zoom
+     * @param fitZoom Computed fit zoom
+     * @param fillViewport Whether bounds should be extended to let image fill entire viewport,
+     * otherwise fit zoom will be restricted
+     * @param out Resulting zoom levels (output), see {@link #MIN}, {@link #MAX} and {@link #FIT}
+     */
+    public static void resolveBounds(
+            float minZoom,
+            float maxZoom,
+            float fitZoom,
+            boolean fillViewport,
+            @NonNull @Size(3) float[] out
+    ) {
+        if (minZoom <= 0f) {
+            minZoom = fitZoom;
+        }
+        if (maxZoom <= 0f) {
+            maxZoom = fitZoom;
+        }
+
+        if (fitZoom > maxZoom) {
+            if (fillViewport) {
+                // zooming to fill entire viewport
+                maxZoom = fitZoom;
+            } else {
+                // restricting fit zoom
+                fitZoom = maxZoom;
+            }
+        }
+        // Now we have: fitZoom <= maxZoom
+
+        if (minZoom > maxZoom) {
+            minZoom = maxZoom;
+        }
+        // Now we have: minZoom <= maxZoom
+
+        if (fitZoom < minZoom) {
+            if (fillViewport) {
+                // zooming to fill entire viewport
+                minZoom = fitZoom;
+            } else {
+                // restricting fit zoom
+                fitZoom = minZoom;
+            }
+        }
+        // Now we have: minZoom <= fitZoom <= maxZoom
+
+        out[MIN] = minZoom;
+        out[MAX] = maxZoom;
+        out[FIT] = fitZoom;
+    }
+
+
+    /**
+     * Fit methods, same as {@code Settings.Fit} except for {@code NONE} which does not need
+     * any computations.
+     */
+    public enum Fit {
+        HORIZONTAL, VERTICAL, INSIDE, OUTSIDE
+    }
+
+}
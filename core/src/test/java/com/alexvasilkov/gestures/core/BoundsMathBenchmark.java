@@ -0,0 +1,58 @@
+package com.alexvasilkov.gestures.core;
+
+import java.util.Locale;
+
+/**
+ * Plain timing benchmark comparing right angles fast path of {@link BoundsMath} with generic
+ * rotation math. Run with {@code ./gradlew :core:benchmark}.
+ */
+public class BoundsMathBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2_000_000;
+    private static final int ITERATIONS = 20_000_000;
+    private static final int ROUNDS = 5;
+
+    private static final FloatRect rect = new FloatRect();
+    private static final float[] point = new float[2];
+
+    // Accumulated results, so that JIT cannot eliminate computations
+    private static float sink;
+
+    private BoundsMathBenchmark() {}
+
+    public static void main(String[] args) {
+        run(WARMUP_ITERATIONS, false);
+        for (int i = 0; i < ROUNDS; i++) {
+            run(ITERATIONS, true);
+        }
+        System.out.println("Checksum: " + sink);
+    }
+
+    private static void run(int iterations, boolean print) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            rect.set(0f, 0f, 100f + (i & 7), 50f);
+            BoundsMath.rotateRectByQuarterTurns(rect, i & 3, 50f, 25f);
+            BoundsMath.getRotatedOriginByQuarterTurns(rect.width(), rect.height(), i & 3, point);
+            sink += rect.left + point[0];
+        }
+        final long fast = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            rect.set(0f, 0f, 100f + (i & 7), 50f);
+            BoundsMath.rotateRectByAngle(rect, 90f * (i & 3), 50f, 25f);
+            BoundsMath.getRotatedOriginByAngle(rect.width(), rect.height(), 90f * (i & 3), point);
+            sink += rect.left + point[0];
+        }
+        final long generic = System.nanoTime() - start;
+
+        if (print) {
+            System.out.println(String.format(Locale.US,
+                    "Right angles: %.1f ns/op, generic: %.1f ns/op, speedup: %.1fx",
+                    (double) fast / iterations, (double) generic / iterations,
+                    (double) generic / fast));
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.alexvasilkov.gestures.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that right angles fast path gives the same results as generic rotation math.
+ */
+public class BoundsMathTest {
+
+    private static final float DELTA = 1e-3f;
+    private static final float[] RIGHT_ANGLES = new float[] { 0f, 90f, 180f, 270f, -90f, -180f };
+
+    @Test
+    public void getQuarterTurns() {
+        assertEquals(0, BoundsMath.getQuarterTurns(0f));
+        assertEquals(1, BoundsMath.getQuarterTurns(90f));
+        assertEquals(2, BoundsMath.getQuarterTurns(180f));
+        assertEquals(2, BoundsMath.getQuarterTurns(-180f));
+        assertEquals(3, BoundsMath.getQuarterTurns(270f));
+        assertEquals(3, BoundsMath.getQuarterTurns(-90f));
+        assertEquals(1, BoundsMath.getQuarterTurns(450f));
+        assertEquals(1, BoundsMath.getQuarterTurns(90.0001f));
+        assertEquals(-1, BoundsMath.getQuarterTurns(45f));
+        assertEquals(-1, BoundsMath.getQuarterTurns(-91f));
+    }
+
+    @Test
+    public void rotateRect_rightAnglesParity() {
+        for (float rotation : RIGHT_ANGLES) {
+            final FloatRect fast = new FloatRect(10f, 20f, 110f, 70f);
+            final FloatRect generic = new FloatRect(10f, 20f, 110f, 70f);
+
+            BoundsMath.rotateRectByQuarterTurns(fast, BoundsMath.getQuarterTurns(rotation),
+                    30f, 40f);
+            BoundsMath.rotateRectByAngle(generic, rotation, 30f, 40f);
+
+            assertEquals("left @ " + rotation, generic.left, fast.left, DELTA);
+            assertEquals("top @ " + rotation, generic.top, fast.top, DELTA);
+            assertEquals("right @ " + rotation, generic.right, fast.right, DELTA);
+            assertEquals("bottom @ " + rotation, generic.bottom, fast.bottom, DELTA);
+        }
+    }
+
+    @Test
+    public void rotateRect_aroundCenter() {
+        final FloatRect rect = new FloatRect(0f, 0f, 100f, 50f);
+        BoundsMath.rotateRect(rect, 90f, 50f, 25f);
+        assertEquals(25f, rect.left, DELTA);
+        assertEquals(-25f, rect.top, DELTA);
+        assertEquals(75f, rect.right, DELTA);
+        assertEquals(75f, rect.bottom, DELTA);
+    }
+
+    @Test
+    public void rotateRect_arbitraryAngle() {
+        final FloatRect rect = new FloatRect(-1f, -1f, 1f, 1f);
+        BoundsMath.rotateRect(rect, 45f, 0f, 0f);
+        final float half = (float) Math.sqrt(2.0);
+        assertEquals(-half, rect.left, DELTA);
+        assertEquals(-half, rect.top, DELTA);
+        assertEquals(half, rect.right, DELTA);
+        assertEquals(half, rect.bottom, DELTA);
+    }
+
+    @Test
+    public void getRotatedOrigin_rightAnglesParity() {
+        final float[] fast = new float[2];
+        final float[] generic = new float[2];
+
+        for (float rotation : RIGHT_ANGLES) {
+            BoundsMath.getRotatedOriginByQuarterTurns(200f, 100f,
+                    BoundsMath.getQuarterTurns(rotation), fast);
+            BoundsMath.getRotatedOriginByAngle(200f, 100f, rotation, generic);
+
+            assertEquals("x @ " + rotation, generic[0], fast[0], DELTA);
+            assertEquals("y @ " + rotation, generic[1], fast[1], DELTA);
+        }
+    }
+
+    @Test
+    public void getRotatedOrigin_values() {
+        final float[] out = new float[2];
+
+        BoundsMath.getRotatedOrigin(200f, 100f, 90f, out);
+        assertEquals(100f, out[0], DELTA);
+        assertEquals(0f, out[1], DELTA);
+
+        BoundsMath.getRotatedOrigin(200f, 100f, 180f, out);
+        assertEquals(200f, out[0], DELTA);
+        assertEquals(100f, out[1], DELTA);
+
+        BoundsMath.getRotatedOrigin(200f, 100f, 270f, out);
+        assertEquals(0f, out[0], DELTA);
+        assertEquals(200f, out[1], DELTA);
+
+        // Rotating square with side sqrt(2) by 45 degrees: origin is at the top of the diamond
+        final float side = (float) Math.sqrt(2.0);
+        BoundsMath.getRotatedOrigin(side, side, 45f, out);
+        assertEquals(1f, out[0], DELTA);
+        assertEquals(0f, out[1], DELTA);
+    }
+
+}
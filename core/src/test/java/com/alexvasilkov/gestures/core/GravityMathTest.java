@@ -0,0 +1,64 @@
+package com.alexvasilkov.gestures.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Expected values are produced by {@code android.view.Gravity.apply()} for the same input,
+ * using container of size 100 x 80.
+ */
+public class GravityMathTest {
+
+    private static final int CLIP_VERTICAL = 0x80;
+    private static final int CLIP_HORIZONTAL = 0x08;
+
+    @Test
+    public void center() {
+        check(GravityMath.CENTER, 40, 20, 30, 30, 70, 50);
+        check(GravityMath.CENTER, 41, 21, 29, 29, 70, 50);
+        check(GravityMath.NO_GRAVITY, 40, 20, 30, 30, 70, 50);
+    }
+
+    @Test
+    public void center_largerThanContainer() {
+        check(GravityMath.CENTER, 200, 150, -50, -35, 150, 115);
+    }
+
+    @Test
+    public void center_negativeSize() {
+        check(GravityMath.CENTER, -10, -10, 55, 45, 45, 35);
+    }
+
+    @Test
+    public void sides() {
+        check(GravityMath.LEFT | GravityMath.TOP, 40, 20, 0, 0, 40, 20);
+        check(GravityMath.RIGHT | GravityMath.BOTTOM, 40, 20, 60, 60, 100, 80);
+    }
+
+    @Test
+    public void fill() {
+        check(GravityMath.FILL, 40, 20, 0, 0, 100, 80);
+        check(GravityMath.FILL_HORIZONTAL | GravityMath.BOTTOM, 40, 20, 0, 60, 100, 80);
+    }
+
+    @Test
+    public void clip() {
+        check(GravityMath.CENTER | CLIP_HORIZONTAL | CLIP_VERTICAL, 200, 150, 0, 0, 100, 80);
+        check(GravityMath.RIGHT | CLIP_HORIZONTAL | GravityMath.TOP, 200, 150, 0, 0, 100, 150);
+        check(GravityMath.LEFT | CLIP_HORIZONTAL | GravityMath.BOTTOM | CLIP_VERTICAL, 200, 150,
+                0, 0, 100, 80);
+    }
+
+
+    private static void check(int gravity, int width, int height,
+            int left, int top, int right, int bottom) {
+        final FloatRect out = new FloatRect();
+        GravityMath.apply(gravity, width, height, 100, 80, out);
+        assertEquals(left, out.left, 0f);
+        assertEquals(top, out.top, 0f);
+        assertEquals(right, out.right, 0f);
+        assertEquals(bottom, out.bottom, 0f);
+    }
+
+}
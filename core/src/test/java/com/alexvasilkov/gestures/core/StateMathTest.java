@@ -0,0 +1,67 @@
+package com.alexvasilkov.gestures.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StateMathTest {
+
+    private static final float DELTA = 1e-4f;
+
+    @Test
+    public void interpolate_value() {
+        assertEquals(1f, StateMath.interpolate(1f, 3f, 0f), 0f);
+        assertEquals(2f, StateMath.interpolate(1f, 3f, 0.5f), 0f);
+        assertEquals(3f, StateMath.interpolate(1f, 3f, 1f), 0f);
+        assertEquals(0f, StateMath.interpolate(2f, -2f, 0.5f), 0f);
+    }
+
+    @Test
+    public void interpolateRotation_shortestPath() {
+        assertEquals(45f, StateMath.interpolateRotation(0f, 90f, 0.5f), DELTA);
+        assertEquals(180f, StateMath.interpolateRotation(170f, -170f, 0.5f), DELTA);
+        assertTrue(Float.isNaN(StateMath.interpolateRotation(-180f, 180f, 0.5f)));
+    }
+
+    @Test
+    public void interpolate_states() {
+        // Two states: zooming around (10, 10) and rotating around (0, 0) while moving pivot
+        final float[] start = new float[] { 0f, 0f, 0f, 0f, 1f, 1f, 0f, 0f };
+        final float[] startPivots = new float[] { 10f, 0f, 10f, 0f };
+        final float[] end = new float[] { 0f, 0f, 0f, 0f, 3f, 1f, 0f, 90f };
+        final float[] endPivots = new float[] { 10f, 20f, 10f, 0f };
+        final float[] out = new float[8];
+
+        StateMath.interpolate(out, start, startPivots, end, endPivots, 2, 0.5f);
+
+        assertEquals(-10f, out[0], DELTA); // x
+        assertEquals(-10f, out[2], DELTA); // y
+        assertEquals(2f, out[4], DELTA); // zoom
+        assertEquals(0f, out[6], DELTA); // rotation
+
+        assertEquals(10f, out[1], DELTA);
+        assertEquals(0f, out[3], DELTA);
+        assertEquals(1f, out[5], DELTA);
+        assertEquals(45f, out[7], DELTA);
+    }
+
+    @Test
+    public void interpolate_states_bounds() {
+        final float[] start = new float[] { 5f, 7f, 2f, 30f };
+        final float[] pivots = new float[] { 1f, 1f };
+        final float[] end = new float[] { 0f, 0f, 4f, 60f };
+        final float[] out = new float[4];
+
+        StateMath.interpolate(out, start, pivots, end, pivots, 1, 0f);
+        assertEquals(5f, out[0], DELTA);
+        assertEquals(7f, out[1], DELTA);
+        assertEquals(2f, out[2], DELTA);
+        assertEquals(30f, out[3], DELTA);
+
+        StateMath.interpolate(out, start, pivots, end, pivots, 1, 1f);
+        assertEquals(4f, out[2], DELTA);
+        assertEquals(60f, out[3], DELTA);
+    }
+
+}
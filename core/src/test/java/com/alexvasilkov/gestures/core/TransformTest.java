@@ -0,0 +1,68 @@
+package com.alexvasilkov.gestures.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class TransformTest {
+
+    private static final float DELTA = 1e-4f;
+
+    @Test
+    public void mapPoint() {
+        final Transform transform = new Transform();
+        transform.set(10f, 20f, 2f, 90f);
+
+        final float[] point = new float[] { 1f, 0f };
+        transform.mapPoint(point);
+        assertEquals(10f, point[0], DELTA);
+        assertEquals(22f, point[1], DELTA);
+
+        point[0] = 0f;
+        point[1] = 3f;
+        transform.mapPoint(point);
+        assertEquals(4f, point[0], DELTA);
+        assertEquals(20f, point[1], DELTA);
+    }
+
+    @Test
+    public void mapPoint_matchesValues() {
+        final Transform transform = new Transform();
+        transform.set(-5f, 12f, 1.5f, -30f);
+        final float[] values = new float[9];
+        transform.getValues(values);
+
+        final float[] point = new float[] { 7f, -3f };
+        transform.mapPoint(point);
+        assertEquals(values[0] * 7f + values[1] * -3f + values[2], point[0], DELTA);
+        assertEquals(values[3] * 7f + values[4] * -3f + values[5], point[1], DELTA);
+    }
+
+    @Test
+    public void mapPointInverse() {
+        final Transform transform = new Transform();
+        transform.set(10f, 20f, 2f, 90f);
+
+        final float[] point = new float[] { 10f, 22f };
+        transform.mapPointInverse(point);
+        assertEquals(1f, point[0], DELTA);
+        assertEquals(0f, point[1], DELTA);
+    }
+
+    @Test
+    public void mapPointInverse_roundTrip() {
+        final Transform transform = new Transform();
+        final float[] point = new float[2];
+
+        for (float rotation = -180f; rotation <= 180f; rotation += 15f) {
+            transform.set(3f, -8f, 0.75f, rotation);
+            point[0] = 11f;
+            point[1] = 4f;
+            transform.mapPoint(point);
+            transform.mapPointInverse(point);
+            assertEquals(11f, point[0], DELTA);
+            assertEquals(4f, point[1], DELTA);
+        }
+    }
+
+}
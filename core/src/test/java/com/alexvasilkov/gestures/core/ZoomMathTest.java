@@ -0,0 +1,82 @@
+package com.alexvasilkov.gestures.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ZoomMathTest {
+
+    private static final float DELTA = 1e-4f;
+
+    @Test
+    public void computeFitZoom_noRotation() {
+        // Image 200 x 100 within area 100 x 100
+        assertEquals(0.5f, fitZoom(ZoomMath.Fit.HORIZONTAL, 0f), DELTA);
+        assertEquals(1f, fitZoom(ZoomMath.Fit.VERTICAL, 0f), DELTA);
+        assertEquals(0.5f, fitZoom(ZoomMath.Fit.INSIDE, 0f), DELTA);
+        assertEquals(1f, fitZoom(ZoomMath.Fit.OUTSIDE, 0f), DELTA);
+    }
+
+    @Test
+    public void computeFitZoom_rightAngle() {
+        // Image bounds are 100 x 200 when rotated by 90 degrees
+        assertEquals(1f, fitZoom(ZoomMath.Fit.HORIZONTAL, 90f), DELTA);
+        assertEquals(0.5f, fitZoom(ZoomMath.Fit.VERTICAL, 90f), DELTA);
+        assertEquals(0.5f, fitZoom(ZoomMath.Fit.INSIDE, -90f), DELTA);
+        assertEquals(1f, fitZoom(ZoomMath.Fit.OUTSIDE, 270f), DELTA);
+    }
+
+    @Test
+    public void computeFitZoom_arbitraryAngle() {
+        // Rotated image bounds are 150 * sqrt(2) in both directions
+        final float inside = (float) (100.0 / (150.0 * Math.sqrt(2.0)));
+        assertEquals(inside, fitZoom(ZoomMath.Fit.INSIDE, 45f), DELTA);
+        // Rotated area bounds are 100 * sqrt(2) in both directions
+        final float outside = (float) (100.0 * Math.sqrt(2.0) / 100.0);
+        assertEquals(outside, fitZoom(ZoomMath.Fit.OUTSIDE, 45f), DELTA);
+    }
+
+    @Test
+    public void resolveBounds_defaults() {
+        checkBounds(0f, 0f, 2f, false, 2f, 2f, 2f);
+    }
+
+    @Test
+    public void resolveBounds_fitWithinBounds() {
+        checkBounds(1f, 4f, 2f, false, 1f, 4f, 2f);
+        checkBounds(1f, 4f, 2f, true, 1f, 4f, 2f);
+    }
+
+    @Test
+    public void resolveBounds_fitAboveMax() {
+        checkBounds(1f, 4f, 5f, false, 1f, 4f, 4f);
+        checkBounds(1f, 4f, 5f, true, 1f, 5f, 5f);
+    }
+
+    @Test
+    public void resolveBounds_fitBelowMin() {
+        checkBounds(1f, 4f, 0.5f, false, 1f, 4f, 1f);
+        checkBounds(1f, 4f, 0.5f, true, 0.5f, 4f, 0.5f);
+    }
+
+    @Test
+    public void resolveBounds_minAboveMax() {
+        checkBounds(5f, 4f, 2f, false, 4f, 4f, 4f);
+        checkBounds(5f, 4f, 2f, true, 2f, 4f, 2f);
+    }
+
+
+    private static float fitZoom(ZoomMath.Fit fit, float rotation) {
+        return ZoomMath.computeFitZoom(fit, 200f, 100f, 100f, 100f, rotation);
+    }
+
+    private static void checkBounds(float min, float max, float fit, boolean fillViewport,
+            float expectedMin, float expectedMax, float expectedFit) {
+        final float[] out = new float[3];
+        ZoomMath.resolveBounds(min, max, fit, fillViewport, out);
+        assertEquals(expectedMin, out[ZoomMath.MIN], 0f);
+        assertEquals(expectedMax, out[ZoomMath.MAX], 0f);
+        assertEquals(expectedFit, out[ZoomMath.FIT], 0f);
+    }
+
+}
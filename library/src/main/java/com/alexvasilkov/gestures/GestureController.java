@@ -5,6 +5,8 @@ import android.content.Context;
 import android.graphics.Point;
 import android.graphics.PointF;
 import android.graphics.RectF;
+import android.os.Looper;
+import android.os.Parcelable;
 import android.view.GestureDetector;
 import android.view.MotionEvent;
 import android.view.ScaleGestureDetector;
@@ -16,9 +18,15 @@ import android.widget.OverScroller;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.alexvasilkov.gestures.core.CropDescriptor;
 import com.alexvasilkov.gestures.internal.AnimationEngine;
 import com.alexvasilkov.gestures.internal.ExitController;
+import com.alexvasilkov.gestures.internal.GestureDebug;
 import com.alexvasilkov.gestures.internal.MovementBounds;
+import com.alexvasilkov.gestures.internal.NormalizedState;
+import com.alexvasilkov.gestures.internal.ResolutionLevels;
+import com.alexvasilkov.gestures.internal.TouchTimings;
+import com.alexvasilkov.gestures.internal.TouchTimings.Stage;
 import com.alexvasilkov.gestures.internal.detectors.RotationGestureDetector;
 import com.alexvasilkov.gestures.internal.detectors.ScaleGestureDetectorFixed;
 import com.alexvasilkov.gestures.utils.FloatScroller;
@@ -76,13 +84,16 @@ public class GestureController implements View.OnTouchListener {
     private OnGestureListener gestureListener;
     private OnStateSourceChangeListener sourceListener;
     private final List<OnStateChangeListener> stateListeners = new ArrayList<>();
+    private final List<OnStateSourceChangeListener> sourceListeners = new ArrayList<>();
 
     private final AnimationEngine animationEngine;
 
-    // Various gesture detectors
-    private final GestureDetector gestureDetector;
-    private final ScaleGestureDetector scaleDetector;
-    private final RotationGestureDetector rotateDetector;
+    // Various gesture detectors, created on first touch event, see ensureInputCreated()
+    private GestureDetector gestureDetector;
+    private ScaleGestureDetector scaleDetector;
+    private RotationGestureDetector rotateDetector;
+
+    private boolean isDisplayOnly;
 
     private boolean isInterceptTouchCalled;
     private boolean isInterceptTouchDisallowed;
@@ -102,10 +113,10 @@ public class GestureController implements View.OnTouchListener {
 
     private StateSource stateSource = StateSource.NONE;
 
-    private final OverScroller flingScroller;
+    private OverScroller flingScroller; // Created on first touch event
     private final FloatScroller stateScroller;
 
-    private final MovementBounds flingBounds;
+    private MovementBounds flingBounds; // Created on first touch event
     private final State stateStart = new State();
     private final State stateEnd = new State();
 
@@ -114,7 +125,17 @@ public class GestureController implements View.OnTouchListener {
     private final State state = new State();
     private final State prevState = new State();
     private final StateController stateController;
-    private final ExitController exitController;
+    private ExitController exitController; // Created on first touch event
+
+    private TouchTimings touchTimings;
+
+    private ResolutionLevels resolutionLevels;
+    private OnResolutionChangeListener resolutionListener;
+
+    // Published state snapshot, can be read from any thread
+    private volatile StateSnapshot stateSnapshot;
+    private volatile boolean isStateSnapshotRequested;
+    private long stateSnapshotSequence;
 
     public GestureController(@NonNull View view) {
         final Context context = view.getContext();
@@ -124,22 +145,53 @@ public class GestureController implements View.OnTouchListener {
         stateController = new StateController(settings);
 
         animationEngine = new LocalAnimationEngine(view);
+        stateScroller = new FloatScroller();
+
+        final ViewConfiguration configuration = ViewConfiguration.get(context);
+        touchSlop = configuration.getScaledTouchSlop();
+        minVelocity = configuration.getScaledMinimumFlingVelocity();
+        maxVelocity = configuration.getScaledMaximumFlingVelocity();
+    }
+
+    /**
+     * Creates gesture detectors and other objects which are only needed to handle touch events.
+     * Many views (i.e. thumbnails used only for transition animations) are never touched,
+     * so there is no need to create all these objects beforehand.
+     */
+    private void ensureInputCreated() {
+        if (gestureDetector != null) {
+            return;
+        }
+        final Context context = targetView.getContext();
+
         InternalGesturesListener internalListener = new InternalGesturesListener();
         gestureDetector = new GestureDetector(context, internalListener);
         scaleDetector = new ScaleGestureDetectorFixed(context, internalListener);
         rotateDetector = new RotationGestureDetector(context, internalListener);
 
-        exitController = new ExitController(view, this);
+        exitController = new ExitController(targetView, this);
 
         flingScroller = new OverScroller(context);
-        stateScroller = new FloatScroller();
-
         flingBounds = new MovementBounds(settings);
+    }
 
-        final ViewConfiguration configuration = ViewConfiguration.get(context);
-        touchSlop = configuration.getScaledTouchSlop();
-        minVelocity = configuration.getScaledMinimumFlingVelocity();
-        maxVelocity = configuration.getScaledMaximumFlingVelocity();
+    /**
+     * Enables "display-only" mode, in which all touch events are ignored and no gesture detectors
+     * are created. Useful for views which are only used to show (and animate) images, e.g.
+     * thumbnails which are only needed for transition animations.
+     * <p>
+     * Unlike {@link Settings#disableGestures()}, touch events are not consumed in this mode,
+     * so view's regular touch handling (i.e. clicks) can be used instead.
+     *
+     * @param displayOnly Whether to ignore touch events
+     */
+    @SuppressWarnings("unused") // Public API
+    public void setDisplayOnly(boolean displayOnly) {
+        isDisplayOnly = displayOnly;
+    }
+
+    public boolean isDisplayOnly() {
+        return isDisplayOnly;
     }
 
     /**
@@ -164,6 +216,60 @@ public class GestureController implements View.OnTouchListener {
         sourceListener = listener;
     }
 
+    /**
+     * Adds listener for state source changes, in addition to the one set with
+     * {@link #setOnStateSourceChangeListener(OnStateSourceChangeListener)}.
+     *
+     * @param listener State's source changes listener
+     * @see OnStateSourceChangeListener
+     */
+    @SuppressWarnings({ "unused", "WeakerAccess" }) // Public API
+    public void addOnStateSourceChangeListener(@NonNull OnStateSourceChangeListener listener) {
+        sourceListeners.add(listener);
+    }
+
+    /**
+     * Removes listener for state source changes.
+     *
+     * @param listener State's source changes listener to be removed
+     * @see #addOnStateSourceChangeListener(OnStateSourceChangeListener)
+     */
+    @SuppressWarnings({ "unused", "WeakerAccess" }) // Public API
+    public void removeOnStateSourceChangeListener(@NonNull OnStateSourceChangeListener listener) {
+        sourceListeners.remove(listener);
+    }
+
+    /**
+     * @return Current state source, see {@link OnStateSourceChangeListener}.
+     */
+    @NonNull
+    public StateSource getStateSource() {
+        return stateSource;
+    }
+
+    /**
+     * Sets listener which will be notified when image pixels per screen pixel ratio
+     * ({@code 1 / zoom}) crosses one of the given thresholds. For example, ratio below
+     * {@code 1} means that the image is upscaled and higher resolution image can be loaded.
+     * <p>
+     * Listener is only called when resolution level is changed, once it is set and each time
+     * the state is reset (i.e. for a new image).
+     * Hysteresis is applied to not switch levels back and forth when zooming around thresholds.
+     *
+     * @param listener Resolution level changes listener, or {@code null} to remove it
+     * @param hysteresis Relative distance (i.e. {@code 0.1f} for 10%) to be passed beyond
+     * threshold to actually cross it
+     * @param thresholds Image pixels per screen pixel thresholds
+     * @see OnResolutionChangeListener
+     */
+    @SuppressWarnings({ "unused", "WeakerAccess" }) // Public API
+    public void setOnResolutionChangeListener(@Nullable OnResolutionChangeListener listener,
+            float hysteresis, @NonNull float... thresholds) {
+        resolutionListener = listener;
+        resolutionLevels = listener == null ? null : new ResolutionLevels(thresholds, hysteresis);
+        notifyResolutionIfChanged();
+    }
+
     /**
      * Adds listener for state changes.
      *
@@ -212,6 +318,34 @@ public class GestureController implements View.OnTouchListener {
         return state;
     }
 
+    /**
+     * Latest published copy of current state. Unlike {@link #getState()} this method can be
+     * called from any thread (e.g. from a render thread) without locking, returned snapshot
+     * is immutable and will never be changed by further state updates.
+     * <p>
+     * Snapshots are only published once this method was called for the first time. If it was
+     * first called from a background thread then an empty snapshot will be returned until next
+     * state update.
+     *
+     * @return Latest state snapshot
+     */
+    @SuppressWarnings("unused") // Public API
+    @NonNull
+    public StateSnapshot getStateSnapshot() {
+        if (!isStateSnapshotRequested) {
+            isStateSnapshotRequested = true;
+            if (Looper.myLooper() == Looper.getMainLooper()) {
+                publishStateSnapshot();
+            }
+        }
+        final StateSnapshot snapshot = stateSnapshot;
+        return snapshot == null ? StateSnapshot.EMPTY : snapshot;
+    }
+
+    private void publishStateSnapshot() {
+        stateSnapshot = new StateSnapshot(++stateSnapshotSequence, state);
+    }
+
     /**
      * @return State controller to get computed min/max zoom levels or calculate movement area
      */
@@ -221,6 +355,18 @@ public class GestureController implements View.OnTouchListener {
         return stateController;
     }
 
+    /**
+     * Debug only.
+     *
+     * @return Touch handling timings collected so far, or {@code null} if timings collection
+     * was not enabled with {@link GestureDebug#setDebugTimings(boolean)}.
+     */
+    @SuppressWarnings("unused") // Public API
+    @Nullable
+    public TouchTimings getTouchTimings() {
+        return touchTimings;
+    }
+
     /**
      * Applies state restrictions and notifies {@link OnStateChangeListener} listeners.
      */
@@ -230,7 +376,9 @@ public class GestureController implements View.OnTouchListener {
         stateController.applyZoomPatch(prevState);
         stateController.applyZoomPatch(stateStart);
         stateController.applyZoomPatch(stateEnd);
-        exitController.applyZoomPatch();
+        if (exitController != null) {
+            exitController.applyZoomPatch();
+        }
 
         boolean reset = stateController.updateState(state);
         if (reset) {
@@ -258,6 +406,110 @@ public class GestureController implements View.OnTouchListener {
         }
     }
 
+    /**
+     * Prepares this controller to be reused for another image, i.e. when the view is recycled by
+     * {@code RecyclerView} or {@link com.alexvasilkov.gestures.commons.RecyclePagerAdapter
+     * RecyclePagerAdapter}. Stops all animations and exit detection, removes listeners set with
+     * {@link #setOnGesturesListener(OnGestureListener)},
+     * {@link #setOnStateSourceChangeListener(OnStateSourceChangeListener)} and
+     * {@link #setOnResolutionChangeListener(OnResolutionChangeListener, float, float...)},
+     * drops not yet applied state from {@link #restoreInstanceState(Parcelable)} or
+     * {@link #setCropDescriptor(CropDescriptor)}, resets settings to given template (if any)
+     * and clears image size, so the controller will be reset once new image is set.
+     * <p>
+     * Listeners added with {@link #addOnStateChangeListener(OnStateChangeListener)} and
+     * {@link #addOnStateSourceChangeListener(OnStateSourceChangeListener)} are kept since they
+     * are registered by the views themselves (and by position animator or controllers group),
+     * so recycled view keeps its controller, position animator and other objects as is.
+     * Disabled gestures and bounds counters are kept as well, see {@link Settings#copyFrom}.
+     *
+     * @param template Settings to reset to, see {@link Settings#copy()}, or {@code null} to keep
+     * current settings
+     */
+    @SuppressWarnings("unused") // Public API
+    public void recycle(@Nullable Settings template) {
+        stopAllAnimations();
+        if (exitController != null) {
+            exitController.stopDetection();
+        }
+
+        gestureListener = null;
+        sourceListener = null;
+        resolutionListener = null;
+        resolutionLevels = null;
+
+        // Pending state belongs to previous image and should not be applied to the new one
+        stateController.clearPending();
+
+        if (template != null) {
+            settings.copyFrom(template);
+        }
+        settings.setImage(0, 0);
+        resetState();
+    }
+
+    /**
+     * Returns current state in a form which does not depend on image and viewport sizes, so it can
+     * be restored with {@link #restoreInstanceState(Parcelable)} after configuration change or
+     * process death, even if viewport size is changed.
+     *
+     * @return Saved state or {@code null} if image or viewport sizes are not known yet.
+     */
+    @Nullable
+    public Parcelable saveInstanceState() {
+        return stateController.getNormalizedState(state);
+    }
+
+    /**
+     * Restores state saved with {@link #saveInstanceState()}. Restored state is applied instead
+     * of initial state as soon as both image and viewport sizes are known, so no extra state
+     * reset or animation is needed.
+     *
+     * @param savedState State returned by {@link #saveInstanceState()}
+     */
+    public void restoreInstanceState(@Nullable Parcelable savedState) {
+        if (savedState instanceof NormalizedState) {
+            stateController.setPendingRestore((NormalizedState) savedState);
+            if (settings.hasImageSize() && settings.hasViewportSize()) {
+                resetState();
+            }
+        }
+    }
+
+    /**
+     * Describes image part currently visible within movement area, in a form which does not
+     * depend on image resolution. Can be used to crop full resolution image elsewhere
+     * (i.e. on server) instead of cropping it on device with
+     * {@link com.alexvasilkov.gestures.utils.CropUtils CropUtils}.
+     * <p>
+     * Note, that state restrictions are not applied here, consider calling
+     * {@link #updateState()} beforehand.
+     *
+     * @return Crop descriptor or {@code null} if image or viewport sizes are not known yet.
+     * @see #setCropDescriptor(CropDescriptor)
+     */
+    @SuppressWarnings("unused") // Public API
+    @Nullable
+    public CropDescriptor getCropDescriptor() {
+        return stateController.getCropDescriptor(state);
+    }
+
+    /**
+     * Restores state from crop descriptor returned by {@link #getCropDescriptor()}, i.e. to
+     * reopen previous editing session. Crop is applied instead of initial state as soon as both
+     * image and viewport sizes are known. Crop width is preserved if movement area ratio is
+     * changed since then.
+     *
+     * @param crop Crop to restore
+     */
+    @SuppressWarnings("unused") // Public API
+    public void setCropDescriptor(@NonNull CropDescriptor crop) {
+        stateController.setPendingCrop(crop);
+        if (settings.hasImageSize() && settings.hasViewportSize()) {
+            resetState();
+        }
+    }
+
     /**
      * Sets pivot point for zooming when keeping image in bounds.
      *
@@ -349,7 +601,7 @@ public class GestureController implements View.OnTouchListener {
 
     @SuppressWarnings("WeakerAccess") // Public API
     public boolean isAnimatingFling() {
-        return !flingScroller.isFinished();
+        return flingScroller != null && !flingScroller.isFinished();
     }
 
     @SuppressWarnings({ "unused", "WeakerAccess" }) // Public API
@@ -398,18 +650,40 @@ public class GestureController implements View.OnTouchListener {
 
     @SuppressWarnings("WeakerAccess") // Public API (can be overridden)
     protected void notifyStateUpdated() {
+        beginTiming(Stage.NOTIFY);
         prevState.set(state);
+        if (isStateSnapshotRequested) {
+            publishStateSnapshot();
+        }
         for (OnStateChangeListener listener : stateListeners) {
             listener.onStateChanged(state);
         }
+        notifyResolutionIfChanged();
+        endTiming(Stage.NOTIFY);
+    }
+
+    private void notifyResolutionIfChanged() {
+        if (resolutionLevels == null || !settings.hasImageSize() || state.getZoom() <= 0f) {
+            return;
+        }
+        final float ratio = 1f / state.getZoom();
+        if (resolutionLevels.update(ratio)) {
+            resolutionListener.onResolutionChanged(resolutionLevels.getLevel(), ratio);
+        }
     }
 
     @SuppressWarnings("WeakerAccess") // Public API (can be overridden)
     protected void notifyStateReset() {
-        exitController.stopDetection();
+        if (exitController != null) {
+            exitController.stopDetection();
+        }
         for (OnStateChangeListener listener : stateListeners) {
             listener.onStateReset(prevState, state);
         }
+        if (resolutionLevels != null) {
+            // New image should get its own resolution level notification
+            resolutionLevels.reset();
+        }
         notifyStateUpdated();
     }
 
@@ -426,6 +700,9 @@ public class GestureController implements View.OnTouchListener {
             if (sourceListener != null) {
                 sourceListener.onStateSourceChanged(type);
             }
+            for (OnStateSourceChangeListener listener : sourceListeners) {
+                listener.onStateSourceChanged(type);
+            }
         }
     }
 
@@ -435,6 +712,10 @@ public class GestureController implements View.OnTouchListener {
     // -------------------
 
     public boolean onInterceptTouch(@NonNull View view, @NonNull MotionEvent event) {
+        if (isDisplayOnly) {
+            return false;
+        }
+        ensureInputCreated();
         isInterceptTouchCalled = true;
         return onTouchInternal(view, event);
     }
@@ -442,6 +723,10 @@ public class GestureController implements View.OnTouchListener {
     @SuppressLint("ClickableViewAccessibility") // performClick is called in gestures callbacks
     @Override
     public boolean onTouch(@NonNull View view, @NonNull MotionEvent event) {
+        if (isDisplayOnly) {
+            return false;
+        }
+        ensureInputCreated();
         if (!isInterceptTouchCalled) { // Preventing duplicate events
             onTouchInternal(view, event);
         }
@@ -450,15 +735,28 @@ public class GestureController implements View.OnTouchListener {
     }
 
     protected boolean onTouchInternal(@NonNull View view, @NonNull MotionEvent event) {
-        MotionEvent viewportEvent = MotionEvent.obtain(event);
-        viewportEvent.offsetLocation(-view.getPaddingLeft(), -view.getPaddingTop());
+        if (GestureDebug.isDebugTimings()) {
+            if (touchTimings == null) {
+                touchTimings = new TouchTimings();
+            }
+            touchTimings.onEventStart(event);
+        }
+
+        // Getting motion event in viewport coordinates by offsetting it in place
+        // and restoring it afterwards, same as ViewGroup does when dispatching events
+        final float paddingX = view.getPaddingLeft();
+        final float paddingY = view.getPaddingTop();
+        final MotionEvent viewportEvent = event;
+        viewportEvent.offsetLocation(-paddingX, -paddingY);
 
         gestureDetector.setIsLongpressEnabled(view.isLongClickable());
 
+        beginTiming(Stage.DISPATCH);
         boolean result = gestureDetector.onTouchEvent(viewportEvent);
         scaleDetector.onTouchEvent(viewportEvent);
         rotateDetector.onTouchEvent(viewportEvent);
         result = result || isScaleDetected || isRotationDetected;
+        endTiming(Stage.DISPATCH);
 
         notifyStateSourceChanged();
 
@@ -471,8 +769,10 @@ public class GestureController implements View.OnTouchListener {
         if (isStateChangedDuringTouch) {
             isStateChangedDuringTouch = false;
 
+            beginTiming(Stage.RESTRICT);
             stateController.restrictStateBounds(
                     state, prevState, pivotX, pivotY, true, true, false);
+            endTiming(Stage.RESTRICT);
 
             if (!state.equals(prevState)) {
                 notifyStateUpdated();
@@ -505,11 +805,27 @@ public class GestureController implements View.OnTouchListener {
             }
         }
 
-        viewportEvent.recycle();
+        viewportEvent.offsetLocation(paddingX, paddingY);
+
+        if (touchTimings != null) {
+            touchTimings.onEventEnd();
+        }
 
         return result;
     }
 
+    private void beginTiming(Stage stage) {
+        if (touchTimings != null) {
+            touchTimings.begin(stage);
+        }
+    }
+
+    private void endTiming(Stage stage) {
+        if (touchTimings != null) {
+            touchTimings.end(stage);
+        }
+    }
+
     protected boolean shouldDisallowInterceptTouch(MotionEvent event) {
         if (exitController.isExitDetected()) {
             return true;
@@ -616,7 +932,9 @@ public class GestureController implements View.OnTouchListener {
         }
 
         if (isScrollDetected) {
+            beginTiming(Stage.STATE);
             state.translateBy(-dx, -dy);
+            endTiming(Stage.STATE);
             isStateChangedDuringTouch = true;
         }
 
@@ -630,7 +948,7 @@ public class GestureController implements View.OnTouchListener {
             return false;
         }
 
-        boolean flingConsumed = exitController.onFling();
+        boolean flingConsumed = exitController.onFling(vx, vy);
         if (flingConsumed) {
             return true;
         }
@@ -744,7 +1062,9 @@ public class GestureController implements View.OnTouchListener {
 
         pivotX = detector.getFocusX();
         pivotY = detector.getFocusY();
+        beginTiming(Stage.STATE);
         state.zoomBy(scaleFactor, pivotX, pivotY);
+        endTiming(Stage.STATE);
         isStateChangedDuringTouch = true;
 
         return true;
@@ -780,7 +1100,9 @@ public class GestureController implements View.OnTouchListener {
 
         pivotX = detector.getFocusX();
         pivotY = detector.getFocusY();
+        beginTiming(Stage.STATE);
         state.rotateBy(detector.getRotationDelta(), pivotX, pivotY);
+        endTiming(Stage.STATE);
         isStateChangedDuringTouch = true;
 
         return true;
@@ -868,6 +1190,20 @@ public class GestureController implements View.OnTouchListener {
         void onStateReset(State oldState, State newState);
     }
 
+    /**
+     * Resolution level changes listener,
+     * see {@link #setOnResolutionChangeListener(OnResolutionChangeListener, float, float...)}.
+     */
+    @SuppressWarnings("WeakerAccess") // Public API
+    public interface OnResolutionChangeListener {
+        /**
+         * @param level Resolution level, {@code 0} if ratio is above all thresholds, {@code N} if
+         * ratio is below N greatest thresholds
+         * @param ratio Image pixels (see {@link Settings#setImage(int, int)}) per screen pixel
+         */
+        void onResolutionChanged(int level, float ratio);
+    }
+
     /**
      * State source changes listener.
      *
@@ -9,13 +9,17 @@ import android.view.View;
 import android.view.ViewConfiguration;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.viewpager.widget.ViewPager;
+import androidx.viewpager2.widget.ViewPager2;
 
+import com.alexvasilkov.gestures.internal.ViewPager2Scroller;
 import com.alexvasilkov.gestures.internal.detectors.RotationGestureDetector;
 
 /**
  * Allows cross movement between view controlled by this {@link GestureController} and it's parent
- * {@link ViewPager} by splitting scroll movements between them.
+ * {@link ViewPager} (or {@link ViewPager2}, see {@link #enableScrollInViewPager2(ViewPager2)})
+ * by splitting scroll movements between them.
  */
 public class GestureControllerForPager extends GestureController {
 
@@ -23,7 +27,7 @@ public class GestureControllerForPager extends GestureController {
     private static final float OVERSCROLL_THRESHOLD_FACTOR = 4f;
 
     // Temporary objects
-    private static final Matrix tmpMatrix = new Matrix();
+    private static final float[] tmpMatrixValues = new float[9];
     private static final RectF tmpRectF = new RectF();
 
 
@@ -71,9 +75,34 @@ public class GestureControllerForPager extends GestureController {
     private boolean isViewPagerInterceptedScroll;
     private float lastViewPagerEventX;
 
+    // Cached transformation from view to pager coordinates, not including pager's own scroll.
+    // Page transformers can change page's matrix while scrolling, so page position and matrix
+    // are remembered to only invalidate the cache if they were actually changed.
+    private final Matrix pagerMatrix = new Matrix();
+    private boolean isPagerMatrixValid;
+    private boolean isPagerMatrixTranslate;
+    private float pagerTranslateX;
+    private float pagerTranslateY;
+    private View page;
+    private int pageLeft;
+    private int pageTop;
+    private final Matrix pageMatrix = new Matrix();
+    private ViewPager.OnPageChangeListener pageChangeListener;
+
+    // Created only when requested, since ViewPager2 library is an optional dependency
+    private ViewPager2Scroller pager2Scroller;
+
     public GestureControllerForPager(@NonNull View view) {
         super(view);
         touchSlop = ViewConfiguration.get(view.getContext()).getScaledTouchSlop();
+
+        view.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+            @Override
+            public void onLayoutChange(View view, int left, int top, int right, int bottom,
+                    int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                isPagerMatrixValid = false;
+            }
+        });
     }
 
     /**
@@ -84,7 +113,25 @@ public class GestureControllerForPager extends GestureController {
      */
     @SuppressLint("ClickableViewAccessibility")
     public void enableScrollInViewPager(ViewPager pager) {
+        if (pageChangeListener == null) {
+            pageChangeListener = new ViewPager.SimpleOnPageChangeListener() {
+                @Override
+                public void onPageScrolled(int position, float offset, int offsetPixels) {
+                    if (isPagerMatrixValid && isPageMoved()) {
+                        isPagerMatrixValid = false;
+                    }
+                }
+            };
+        }
+        if (viewPager != pager) {
+            if (viewPager != null) {
+                viewPager.removeOnPageChangeListener(pageChangeListener);
+            }
+            pager.addOnPageChangeListener(pageChangeListener);
+        }
+
         viewPager = pager;
+        isPagerMatrixValid = false;
         pager.setOnTouchListener(PAGER_TOUCH_LISTENER);
 
         // Disabling motion event splitting
@@ -92,12 +139,36 @@ public class GestureControllerForPager extends GestureController {
     }
 
     /**
-     * Disables ViewPager scroll. Default is false.
+     * Enables scroll inside {@link ViewPager2}
+     * (by enabling cross movement between ViewPager2 and it's child view).
+     * <p>
+     * Unlike {@link ViewPager} integration no touch events are passed to the pager, instead
+     * the part of the scroll which cannot be consumed by the view is applied to the pager
+     * in the same frame using {@link ViewPager2#fakeDragBy(float)}.
+     *
+     * @param pager Target ViewPager2, or {@code null} to disable ViewPager2 integration
+     */
+    @SuppressWarnings("unused") // Public API
+    public void enableScrollInViewPager2(@Nullable ViewPager2 pager) {
+        if (pager2Scroller != null) {
+            pager2Scroller.release();
+        }
+        pager2Scroller = pager == null ? null : new ViewPager2Scroller(this, pager);
+        if (pager2Scroller != null) {
+            pager2Scroller.setDisabled(isViewPagerDisabled);
+        }
+    }
+
+    /**
+     * Disables ViewPager or ViewPager2 scroll. Default is false.
      *
      * @param disable Whether to disable ViewPager scroll or not
      */
     public void disableViewPager(boolean disable) {
         isViewPagerDisabled = disable;
+        if (pager2Scroller != null) {
+            pager2Scroller.setDisabled(disable);
+        }
     }
 
     @SuppressLint("ClickableViewAccessibility") // performClick() will be called in super class
@@ -105,30 +176,92 @@ public class GestureControllerForPager extends GestureController {
     public boolean onTouch(@NonNull View view, @NonNull MotionEvent event) {
         // We need to always receive touch events to pass them to ViewPager (if provided)
         boolean result = super.onTouch(view, event);
-        return viewPager != null || result;
+        return (viewPager != null && !isDisplayOnly()) || result;
     }
 
     @Override
     protected boolean onTouchInternal(@NonNull View view, @NonNull MotionEvent event) {
+        if (pager2Scroller != null && event.getActionMasked() == MotionEvent.ACTION_POINTER_DOWN
+                && event.getPointerCount() == 2) {
+            pager2Scroller.onSecondPointerDown();
+        }
+
         if (viewPager == null) {
             return super.onTouchInternal(view, event);
         } else {
-            // Getting motion event in pager coordinates
-            MotionEvent pagerEvent = MotionEvent.obtain(event);
-            transformToPagerEvent(pagerEvent, view, viewPager);
+            // View position within the pager is only recomputed after layout or page movement,
+            // pager's own scroll is changing during the gesture so it is applied separately
+            if (!isPagerMatrixValid || event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+                computePagerMatrix(view, viewPager);
+            }
+
+            if (isPagerMatrixTranslate) {
+                // Getting motion event in pager coordinates by offsetting it in place
+                // and restoring it afterwards, same as ViewGroup does when dispatching events
+                final float offsetX = pagerTranslateX - viewPager.getScrollX();
+                final float offsetY = pagerTranslateY - viewPager.getScrollY();
+                event.offsetLocation(offsetX, offsetY);
 
-            handleTouch(pagerEvent);
+                handleTouch(event);
 
-            boolean result = super.onTouchInternal(view, pagerEvent);
-            pagerEvent.recycle();
-            return result;
+                boolean result = super.onTouchInternal(view, event);
+                event.offsetLocation(-offsetX, -offsetY);
+                return result;
+            } else {
+                // Getting motion event in pager coordinates
+                MotionEvent pagerEvent = MotionEvent.obtain(event);
+                pagerEvent.transform(pagerMatrix);
+                pagerEvent.offsetLocation(-viewPager.getScrollX(), -viewPager.getScrollY());
+
+                handleTouch(pagerEvent);
+
+                boolean result = super.onTouchInternal(view, pagerEvent);
+                pagerEvent.recycle();
+                return result;
+            }
         }
     }
 
+    private void computePagerMatrix(View view, ViewPager pager) {
+        pagerMatrix.reset();
+        transformMatrixToPager(pagerMatrix, view, pager);
+
+        pagerMatrix.getValues(tmpMatrixValues);
+        isPagerMatrixTranslate = tmpMatrixValues[Matrix.MSCALE_X] == 1f
+                && tmpMatrixValues[Matrix.MSKEW_X] == 0f
+                && tmpMatrixValues[Matrix.MSKEW_Y] == 0f
+                && tmpMatrixValues[Matrix.MSCALE_Y] == 1f
+                && tmpMatrixValues[Matrix.MPERSP_0] == 0f
+                && tmpMatrixValues[Matrix.MPERSP_1] == 0f
+                && tmpMatrixValues[Matrix.MPERSP_2] == 1f;
+        pagerTranslateX = tmpMatrixValues[Matrix.MTRANS_X];
+        pagerTranslateY = tmpMatrixValues[Matrix.MTRANS_Y];
+
+        page = findPage(view, pager);
+        if (page != null) {
+            pageLeft = page.getLeft();
+            pageTop = page.getTop();
+            pageMatrix.set(page.getMatrix());
+        }
+
+        isPagerMatrixValid = true;
+    }
+
+    /**
+     * Checks whether the page containing the view was moved or transformed (i.e. by page
+     * transformer) since pager matrix was computed.
+     */
+    private boolean isPageMoved() {
+        return page == null || page.getLeft() != pageLeft || page.getTop() != pageTop
+                || !page.getMatrix().equals(pageMatrix);
+    }
+
     @Override
     protected boolean shouldDisallowInterceptTouch(MotionEvent event) {
-        // If ViewPager is set then we'll always disallow touch interception
-        return viewPager != null || super.shouldDisallowInterceptTouch(event);
+        // If ViewPager is set then we'll always disallow touch interception,
+        // for ViewPager2 scroll will be passed to the pager manually
+        return viewPager != null || pager2Scroller != null
+                || super.shouldDisallowInterceptTouch(event);
     }
 
     private void handleTouch(MotionEvent event) {
@@ -143,6 +276,10 @@ public class GestureControllerForPager extends GestureController {
 
     @Override
     protected boolean onDown(@NonNull MotionEvent event) {
+        if (pager2Scroller != null) {
+            pager2Scroller.onDown();
+        }
+
         if (viewPager == null) {
             return super.onDown(event);
         }
@@ -161,6 +298,9 @@ public class GestureControllerForPager extends GestureController {
 
     @Override
     protected void onUpOrCancel(@NonNull MotionEvent event) {
+        if (pager2Scroller != null) {
+            pager2Scroller.onUpOrCancel();
+        }
         passEventToViewPager(event);
         super.onUpOrCancel(event);
     }
@@ -169,7 +309,9 @@ public class GestureControllerForPager extends GestureController {
     protected boolean onScroll(@NonNull MotionEvent e1, @NonNull MotionEvent e2,
             float dx, float dy) {
 
-        if (viewPager == null) {
+        if (pager2Scroller != null) {
+            return onScrollInViewPager2(e1, e2, dx, dy);
+        } else if (viewPager == null) {
             return super.onScroll(e1, e2, dx, dy);
         } else {
             if (!isScrollGestureDetected) {
@@ -191,22 +333,49 @@ public class GestureControllerForPager extends GestureController {
     protected boolean onFling(@NonNull MotionEvent e1, @NonNull MotionEvent e2,
             float vx, float vy) {
 
-        return !hasViewPagerX() && super.onFling(e1, e2, vx, vy);
+        return !isViewPagerDragged() && super.onFling(e1, e2, vx, vy);
     }
 
     @Override
     protected boolean onScaleBegin(@NonNull ScaleGestureDetector detector) {
-        return !hasViewPagerX() && super.onScaleBegin(detector);
+        return !isViewPagerDragged() && super.onScaleBegin(detector);
     }
 
     @Override
     protected boolean onRotationBegin(@NonNull RotationGestureDetector detector) {
-        return !hasViewPagerX() && super.onRotationBegin(detector);
+        return !isViewPagerDragged() && super.onRotationBegin(detector);
     }
 
     @Override
     protected boolean onDoubleTapEvent(@NonNull MotionEvent event) {
-        return !hasViewPagerX() && super.onDoubleTapEvent(event);
+        return !isViewPagerDragged() && super.onDoubleTapEvent(event);
+    }
+
+    private boolean onScrollInViewPager2(@NonNull MotionEvent e1, @NonNull MotionEvent e2,
+            float dx, float dy) {
+
+        if (pager2Scroller.skipFirstScroll()) {
+            return true;
+        }
+
+        final boolean isHorizontal = pager2Scroller.isHorizontal();
+
+        // Splitting movement between pager and view
+        final float distance = isHorizontal ? -dx : -dy;
+        final float viewDistance = distance - pager2Scroller.scrollBy(distance, isHorizontal);
+        final boolean isDragged = pager2Scroller.isDragged();
+
+        if (isHorizontal) {
+            // Skipping vertical movement if ViewPager2 is dragged
+            return super.onScroll(e1, e2, -viewDistance, isDragged ? 0f : dy);
+        } else {
+            // Skipping horizontal movement if ViewPager2 is dragged
+            return super.onScroll(e1, e2, isDragged ? 0f : dx, -viewDistance);
+        }
+    }
+
+    private boolean isViewPagerDragged() {
+        return hasViewPagerX() || (pager2Scroller != null && pager2Scroller.isDragged());
     }
 
     /*
@@ -402,22 +571,26 @@ public class GestureControllerForPager extends GestureController {
         }
     }
 
-    private static void transformToPagerEvent(MotionEvent event, View view, ViewPager pager) {
-        tmpMatrix.reset();
-        transformMatrixToPager(tmpMatrix, view, pager);
-        event.transform(tmpMatrix);
-    }
-
     /*
      * Inspired by hidden method View#transformMatrixToGlobal().
+     * Pager's own scroll is not included, it should be applied separately.
      */
+    @Nullable
+    private static View findPage(View view, ViewPager pager) {
+        View page = view;
+        while (page.getParent() instanceof View && page.getParent() != pager) {
+            page = (View) page.getParent();
+        }
+        return page.getParent() == pager ? page : null;
+    }
+
     private static void transformMatrixToPager(Matrix matrix, View view, ViewPager pager) {
         if (view.getParent() instanceof View) {
             View parent = (View) view.getParent();
             if (parent != pager) {
                 transformMatrixToPager(matrix, parent, pager);
+                matrix.preTranslate(-parent.getScrollX(), -parent.getScrollY());
             }
-            matrix.preTranslate(-parent.getScrollX(), -parent.getScrollY());
         }
 
         matrix.preTranslate(view.getLeft(), view.getTop());
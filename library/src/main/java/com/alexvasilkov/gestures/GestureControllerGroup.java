@@ -0,0 +1,198 @@
+package com.alexvasilkov.gestures;
+
+import androidx.annotation.NonNull;
+
+import com.alexvasilkov.gestures.GestureController.OnStateChangeListener;
+import com.alexvasilkov.gestures.GestureController.OnStateSourceChangeListener;
+import com.alexvasilkov.gestures.GestureController.StateSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Links several {@link GestureController}s together, so that zoom, pan and rotation applied
+ * to any of them (by user or by animation) is mirrored by all others, i.e. to compare several
+ * images side by side.
+ * <p>
+ * Only the controller driven by gestures restricts its state within bounds, other controllers
+ * receive a mapped copy of already restricted state and notify their listeners without
+ * triggering further synchronization.
+ * <p>
+ * Images of different sizes can be linked using {@link Mapping#PROPORTIONAL} mapping, in which
+ * case the same relative part of each image will be shown.
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public class GestureControllerGroup {
+
+    private final List<Member> members = new ArrayList<>();
+    private final Mapping mapping;
+
+    private final State tmpState = new State();
+    private boolean isSyncing;
+
+    public GestureControllerGroup() {
+        this(Mapping.EQUAL);
+    }
+
+    /**
+     * @param mapping How state is mapped from one controller to another
+     */
+    public GestureControllerGroup(@NonNull Mapping mapping) {
+        this.mapping = mapping;
+    }
+
+    /**
+     * Adds controller to this group, its state will be immediately synchronized with other
+     * controllers in the group (if any).
+     *
+     * @param controller Controller to link
+     */
+    public void add(@NonNull GestureController controller) {
+        if (indexOf(controller) != -1) {
+            return;
+        }
+        final Member member = new Member(controller);
+        controller.addOnStateChangeListener(member);
+        controller.addOnStateSourceChangeListener(member);
+        members.add(member);
+
+        if (members.size() > 1) {
+            // Adopting state of the group
+            sync(members.get(0).controller);
+        }
+    }
+
+    /**
+     * Removes controller from this group.
+     *
+     * @param controller Controller to unlink
+     */
+    public void remove(@NonNull GestureController controller) {
+        final int index = indexOf(controller);
+        if (index != -1) {
+            final Member member = members.remove(index);
+            controller.removeOnStateChangeListener(member);
+            controller.removeOnStateSourceChangeListener(member);
+        }
+    }
+
+    /**
+     * Removes all controllers from this group.
+     */
+    public void clear() {
+        for (int i = members.size() - 1; i >= 0; i--) {
+            remove(members.get(i).controller);
+        }
+    }
+
+    private int indexOf(GestureController controller) {
+        for (int i = 0, size = members.size(); i < size; i++) {
+            if (members.get(i).controller == controller) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies state of the given controller to all other controllers in the group.
+     */
+    private void sync(GestureController source) {
+        if (isSyncing) {
+            return; // Ignoring state updates caused by synchronization itself
+        }
+        isSyncing = true;
+
+        for (int i = 0, size = members.size(); i < size; i++) {
+            final GestureController target = members.get(i).controller;
+            if (target != source && map(source, target, tmpState)) {
+                if (!target.getState().equals(tmpState)) {
+                    target.getState().set(tmpState);
+                    target.notifyStateUpdated();
+                }
+            }
+        }
+
+        isSyncing = false;
+    }
+
+    /**
+     * Stops animations of all controllers except the given one, so they won't fight with the
+     * controller which is now driving the group.
+     */
+    private void stopOthers(GestureController source) {
+        for (int i = 0, size = members.size(); i < size; i++) {
+            final GestureController target = members.get(i).controller;
+            if (target != source) {
+                target.stopAllAnimations();
+            }
+        }
+    }
+
+    private boolean map(GestureController source, GestureController target, State out) {
+        final State state = source.getState();
+
+        if (mapping == Mapping.EQUAL) {
+            out.set(state);
+            return true;
+        }
+
+        final Settings from = source.getSettings();
+        final Settings to = target.getSettings();
+        if (!from.hasImageSize() || !to.hasImageSize()
+                || !from.hasViewportSize() || !to.hasViewportSize()) {
+            return false;
+        }
+
+        // Image pixels are scaled to match relative positions,
+        // viewport pixels are scaled to match relative screen positions
+        final float imageScale = (float) from.getImageW() / to.getImageW();
+        final float viewportScale = (float) to.getViewportW() / from.getViewportW();
+
+        out.set(state.getX() * viewportScale,
+                state.getY() * viewportScale,
+                state.getZoom() * imageScale * viewportScale,
+                state.getRotation());
+        return true;
+    }
+
+
+    public enum Mapping {
+        /**
+         * Same state is applied to all controllers, suitable for images of the same size.
+         */
+        EQUAL,
+
+        /**
+         * State is mapped proportionally to images widths and viewports widths,
+         * so the same relative part of each image is shown.
+         */
+        PROPORTIONAL
+    }
+
+    private class Member implements OnStateChangeListener, OnStateSourceChangeListener {
+        final GestureController controller;
+
+        Member(GestureController controller) {
+            this.controller = controller;
+        }
+
+        @Override
+        public void onStateChanged(State state) {
+            sync(controller);
+        }
+
+        @Override
+        public void onStateReset(State oldState, State newState) {
+            sync(controller);
+        }
+
+        @Override
+        public void onStateSourceChanged(StateSource source) {
+            if (source != StateSource.NONE && !isSyncing) {
+                stopOthers(controller);
+            }
+        }
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.alexvasilkov.gestures;
 
 import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.util.AttributeSet;
 import android.view.Gravity;
@@ -11,6 +13,11 @@ import androidx.annotation.Nullable;
 import com.alexvasilkov.gestures.internal.UnitsUtils;
 import com.alexvasilkov.gestures.views.interfaces.GestureView;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Various settings needed for {@link GestureController} and for {@link StateController}.
  * <p>
@@ -24,6 +31,17 @@ public class Settings {
     public static final float OVERZOOM_FACTOR = 2f;
     public static final long ANIMATIONS_DURATION = 200L;
 
+    private static final int ATTRS_CACHE_SIZE = 32;
+
+    // Parsed XML attributes cache, see initFromAttributes()
+    private static final Map<AttrsKey, AttrsTemplate> attrsCache =
+            new LinkedHashMap<AttrsKey, AttrsTemplate>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<AttrsKey, AttrsTemplate> eldest) {
+                    return size() > ATTRS_CACHE_SIZE;
+                }
+            };
+
     /*
      * Viewport area.
      */
@@ -142,78 +160,93 @@ public class Settings {
      */
     private long animationsDuration = ANIMATIONS_DURATION;
 
+    /*
+     * Incremented each time viewport, movement area, image size or fit method is changed.
+     */
+    private int geometryVersion;
+
     Settings() {
         // Package private constructor
     }
 
+    /**
+     * Reads settings from view's XML attributes.
+     * <p>
+     * Parsed attributes are cached, so views inflated from the same XML declaration with the
+     * same theme will reuse already parsed values instead of resolving all the attributes again.
+     *
+     * @param context View's context
+     * @param attrs View's attributes
+     */
     public void initFromAttributes(@NonNull Context context, @Nullable AttributeSet attrs) {
         if (attrs == null) {
             return;
         }
 
-        TypedArray arr = context.obtainStyledAttributes(attrs, R.styleable.GestureView);
-
-        movementAreaW = arr.getDimensionPixelSize(
-                R.styleable.GestureView_gest_movementAreaWidth, movementAreaW);
-        movementAreaH = arr.getDimensionPixelSize(
-                R.styleable.GestureView_gest_movementAreaHeight, movementAreaH);
-        isMovementAreaSpecified = movementAreaW > 0 && movementAreaH > 0;
-
-        minZoom = arr.getFloat(
-                R.styleable.GestureView_gest_minZoom, minZoom);
-        maxZoom = arr.getFloat(
-                R.styleable.GestureView_gest_maxZoom, maxZoom);
-        doubleTapZoom = arr.getFloat(
-                R.styleable.GestureView_gest_doubleTapZoom, doubleTapZoom);
-        overzoomFactor = arr.getFloat(
-                R.styleable.GestureView_gest_overzoomFactor, overzoomFactor);
-        overscrollDistanceX = arr.getDimension(
-                R.styleable.GestureView_gest_overscrollX, overscrollDistanceX);
-        overscrollDistanceY = arr.getDimension(
-                R.styleable.GestureView_gest_overscrollY, overscrollDistanceY);
-        isFillViewport = arr.getBoolean(
-                R.styleable.GestureView_gest_fillViewport, isFillViewport);
-        gravity = arr.getInt(
-                R.styleable.GestureView_gest_gravity, gravity);
-
-        int fitMethodPos = arr.getInteger(
-                R.styleable.GestureView_gest_fitMethod, fitMethod.ordinal());
-        fitMethod = Fit.values()[fitMethodPos];
-
-        int boundsTypePos = arr.getInteger(
-                R.styleable.GestureView_gest_boundsType, boundsType.ordinal());
-        boundsType = Bounds.values()[boundsTypePos];
-
-        isPanEnabled = arr.getBoolean(
-                R.styleable.GestureView_gest_panEnabled, isPanEnabled);
-        isFlingEnabled = arr.getBoolean(
-                R.styleable.GestureView_gest_flingEnabled, isFlingEnabled);
-        isZoomEnabled = arr.getBoolean(
-                R.styleable.GestureView_gest_zoomEnabled, isZoomEnabled);
-        isRotationEnabled = arr.getBoolean(
-                R.styleable.GestureView_gest_rotationEnabled, isRotationEnabled);
-        isRestrictRotation = arr.getBoolean(
-                R.styleable.GestureView_gest_restrictRotation, isRestrictRotation);
-        isDoubleTapEnabled = arr.getBoolean(
-                R.styleable.GestureView_gest_doubleTapEnabled, isDoubleTapEnabled);
-        exitType = arr.getBoolean(
-                R.styleable.GestureView_gest_exitEnabled, true) ? exitType : ExitType.NONE;
-        animationsDuration = arr.getInt(
-                R.styleable.GestureView_gest_animationDuration, (int) animationsDuration);
-
-        boolean disableGestures = arr.getBoolean(
-                R.styleable.GestureView_gest_disableGestures, false);
-        if (disableGestures) {
-            disableGestures();
+        final AttrsKey key = new AttrsKey(context, attrs);
+        AttrsTemplate template;
+        synchronized (attrsCache) {
+            template = attrsCache.get(key);
         }
-
-        boolean disableBounds = arr.getBoolean(
-                R.styleable.GestureView_gest_disableBounds, false);
-        if (disableBounds) {
-            disableBounds();
+        if (template == null) {
+            template = new AttrsTemplate(context, attrs);
+            // Only cached keys need own copy of (mutable) resources configuration
+            key.copyConfiguration();
+            synchronized (attrsCache) {
+                attrsCache.put(key, template);
+            }
         }
+        template.applyTo(this);
+    }
 
-        arr.recycle();
+    /**
+     * Copies all settings from given settings object, except for viewport and image sizes
+     * which are specific to particular view.
+     * <p>
+     * Note, that disabled gestures and bounds counters (see {@link #disableGestures()} and
+     * {@link #disableBounds()}) are not copied, since they are controlled by ongoing animations
+     * and exit gestures of the particular view.
+     *
+     * @param other Settings to copy from
+     * @return Current settings object for calls chaining
+     */
+    @NonNull
+    public Settings copyFrom(@NonNull Settings other) {
+        movementAreaW = other.movementAreaW;
+        movementAreaH = other.movementAreaH;
+        isMovementAreaSpecified = other.isMovementAreaSpecified;
+        minZoom = other.minZoom;
+        maxZoom = other.maxZoom;
+        doubleTapZoom = other.doubleTapZoom;
+        overzoomFactor = other.overzoomFactor;
+        overscrollDistanceX = other.overscrollDistanceX;
+        overscrollDistanceY = other.overscrollDistanceY;
+        isFillViewport = other.isFillViewport;
+        gravity = other.gravity;
+        fitMethod = other.fitMethod;
+        boundsType = other.boundsType;
+        isPanEnabled = other.isPanEnabled;
+        isFlingEnabled = other.isFlingEnabled;
+        isZoomEnabled = other.isZoomEnabled;
+        isRotationEnabled = other.isRotationEnabled;
+        isRestrictRotation = other.isRestrictRotation;
+        isDoubleTapEnabled = other.isDoubleTapEnabled;
+        exitType = other.exitType;
+        animationsDuration = other.animationsDuration;
+        geometryVersion++;
+        return this;
+    }
+
+    /**
+     * Creates a copy of current settings, except for viewport and image sizes. Can be used as
+     * a template for {@link GestureController#recycle(Settings)}.
+     *
+     * @return New settings object
+     * @see #copyFrom(Settings)
+     */
+    @NonNull
+    public Settings copy() {
+        return new Settings().copyFrom(this);
     }
 
     /**
@@ -229,6 +262,7 @@ public class Settings {
     public Settings setViewport(int width, int height) {
         viewportW = width;
         viewportH = height;
+        geometryVersion++;
         return this;
     }
 
@@ -245,6 +279,7 @@ public class Settings {
         isMovementAreaSpecified = true;
         movementAreaW = width;
         movementAreaH = height;
+        geometryVersion++;
         return this;
     }
 
@@ -261,6 +296,7 @@ public class Settings {
     public Settings setImage(int width, int height) {
         imageW = width;
         imageH = height;
+        geometryVersion++;
         return this;
     }
 
@@ -405,6 +441,7 @@ public class Settings {
     @NonNull
     public Settings setFitMethod(@NonNull Fit fitMethod) {
         this.fitMethod = fitMethod;
+        geometryVersion++;
         return this;
     }
 
@@ -731,6 +768,14 @@ public class Settings {
         return animationsDuration;
     }
 
+    /**
+     * @return Number which is changed each time viewport, movement area, image size or fit method
+     * is changed. Can be used to invalidate values computed from these settings.
+     */
+    public int getGeometryVersion() {
+        return geometryVersion;
+    }
+
 
     /**
      * @return Whether at least one of pan, zoom, rotation or double tap are enabled or not
@@ -830,4 +875,310 @@ public class Settings {
         NONE
     }
 
+
+    /**
+     * Settings parsed from XML attributes, along with the list of attributes which were
+     * actually specified.
+     */
+    private static class AttrsTemplate {
+
+        private static final int MOVEMENT_AREA_W = 1;
+        private static final int MOVEMENT_AREA_H = 1 << 1;
+        private static final int MIN_ZOOM = 1 << 2;
+        private static final int MAX_ZOOM = 1 << 3;
+        private static final int DOUBLE_TAP_ZOOM = 1 << 4;
+        private static final int OVERZOOM_FACTOR = 1 << 5;
+        private static final int OVERSCROLL_X = 1 << 6;
+        private static final int OVERSCROLL_Y = 1 << 7;
+        private static final int FILL_VIEWPORT = 1 << 8;
+        private static final int GRAVITY = 1 << 9;
+        private static final int FIT_METHOD = 1 << 10;
+        private static final int BOUNDS_TYPE = 1 << 11;
+        private static final int PAN_ENABLED = 1 << 12;
+        private static final int FLING_ENABLED = 1 << 13;
+        private static final int ZOOM_ENABLED = 1 << 14;
+        private static final int ROTATION_ENABLED = 1 << 15;
+        private static final int RESTRICT_ROTATION = 1 << 16;
+        private static final int DOUBLE_TAP_ENABLED = 1 << 17;
+        private static final int ANIMATION_DURATION = 1 << 18;
+
+        private final Settings values = new Settings();
+        private int specified;
+        private boolean isExitDisabled;
+        private boolean isGesturesDisabled;
+        private boolean isBoundsDisabled;
+
+        AttrsTemplate(Context context, AttributeSet attrs) {
+            TypedArray arr = context.obtainStyledAttributes(attrs, R.styleable.GestureView);
+
+            final Settings out = values;
+
+            if (arr.hasValue(R.styleable.GestureView_gest_movementAreaWidth)) {
+                specified |= MOVEMENT_AREA_W;
+                out.movementAreaW = arr.getDimensionPixelSize(
+                        R.styleable.GestureView_gest_movementAreaWidth, 0);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_movementAreaHeight)) {
+                specified |= MOVEMENT_AREA_H;
+                out.movementAreaH = arr.getDimensionPixelSize(
+                        R.styleable.GestureView_gest_movementAreaHeight, 0);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_minZoom)) {
+                specified |= MIN_ZOOM;
+                out.minZoom = arr.getFloat(R.styleable.GestureView_gest_minZoom, 0f);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_maxZoom)) {
+                specified |= MAX_ZOOM;
+                out.maxZoom = arr.getFloat(R.styleable.GestureView_gest_maxZoom, 0f);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_doubleTapZoom)) {
+                specified |= DOUBLE_TAP_ZOOM;
+                out.doubleTapZoom = arr.getFloat(R.styleable.GestureView_gest_doubleTapZoom, 0f);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_overzoomFactor)) {
+                specified |= OVERZOOM_FACTOR;
+                out.overzoomFactor =
+                        arr.getFloat(R.styleable.GestureView_gest_overzoomFactor, 0f);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_overscrollX)) {
+                specified |= OVERSCROLL_X;
+                out.overscrollDistanceX =
+                        arr.getDimension(R.styleable.GestureView_gest_overscrollX, 0f);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_overscrollY)) {
+                specified |= OVERSCROLL_Y;
+                out.overscrollDistanceY =
+                        arr.getDimension(R.styleable.GestureView_gest_overscrollY, 0f);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_fillViewport)) {
+                specified |= FILL_VIEWPORT;
+                out.isFillViewport =
+                        arr.getBoolean(R.styleable.GestureView_gest_fillViewport, false);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_gravity)) {
+                specified |= GRAVITY;
+                out.gravity = arr.getInt(R.styleable.GestureView_gest_gravity, 0);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_fitMethod)) {
+                specified |= FIT_METHOD;
+                out.fitMethod = Fit.values()[arr.getInteger(
+                        R.styleable.GestureView_gest_fitMethod, 0)];
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_boundsType)) {
+                specified |= BOUNDS_TYPE;
+                out.boundsType = Bounds.values()[arr.getInteger(
+                        R.styleable.GestureView_gest_boundsType, 0)];
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_panEnabled)) {
+                specified |= PAN_ENABLED;
+                out.isPanEnabled = arr.getBoolean(R.styleable.GestureView_gest_panEnabled, true);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_flingEnabled)) {
+                specified |= FLING_ENABLED;
+                out.isFlingEnabled =
+                        arr.getBoolean(R.styleable.GestureView_gest_flingEnabled, true);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_zoomEnabled)) {
+                specified |= ZOOM_ENABLED;
+                out.isZoomEnabled = arr.getBoolean(R.styleable.GestureView_gest_zoomEnabled, true);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_rotationEnabled)) {
+                specified |= ROTATION_ENABLED;
+                out.isRotationEnabled =
+                        arr.getBoolean(R.styleable.GestureView_gest_rotationEnabled, false);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_restrictRotation)) {
+                specified |= RESTRICT_ROTATION;
+                out.isRestrictRotation =
+                        arr.getBoolean(R.styleable.GestureView_gest_restrictRotation, false);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_doubleTapEnabled)) {
+                specified |= DOUBLE_TAP_ENABLED;
+                out.isDoubleTapEnabled =
+                        arr.getBoolean(R.styleable.GestureView_gest_doubleTapEnabled, true);
+            }
+            if (arr.hasValue(R.styleable.GestureView_gest_animationDuration)) {
+                specified |= ANIMATION_DURATION;
+                out.animationsDuration =
+                        arr.getInt(R.styleable.GestureView_gest_animationDuration, 0);
+            }
+
+            isExitDisabled = !arr.getBoolean(R.styleable.GestureView_gest_exitEnabled, true);
+            isGesturesDisabled =
+                    arr.getBoolean(R.styleable.GestureView_gest_disableGestures, false);
+            isBoundsDisabled = arr.getBoolean(R.styleable.GestureView_gest_disableBounds, false);
+
+            arr.recycle();
+        }
+
+        void applyTo(Settings settings) {
+            final Settings in = values;
+
+            if (has(MOVEMENT_AREA_W)) {
+                settings.movementAreaW = in.movementAreaW;
+            }
+            if (has(MOVEMENT_AREA_H)) {
+                settings.movementAreaH = in.movementAreaH;
+            }
+            if (has(MOVEMENT_AREA_W) || has(MOVEMENT_AREA_H)) {
+                settings.isMovementAreaSpecified =
+                        settings.movementAreaW > 0 && settings.movementAreaH > 0;
+                settings.geometryVersion++;
+            }
+            if (has(MIN_ZOOM)) {
+                settings.minZoom = in.minZoom;
+            }
+            if (has(MAX_ZOOM)) {
+                settings.maxZoom = in.maxZoom;
+            }
+            if (has(DOUBLE_TAP_ZOOM)) {
+                settings.doubleTapZoom = in.doubleTapZoom;
+            }
+            if (has(OVERZOOM_FACTOR)) {
+                settings.overzoomFactor = in.overzoomFactor;
+            }
+            if (has(OVERSCROLL_X)) {
+                settings.overscrollDistanceX = in.overscrollDistanceX;
+            }
+            if (has(OVERSCROLL_Y)) {
+                settings.overscrollDistanceY = in.overscrollDistanceY;
+            }
+            if (has(FILL_VIEWPORT)) {
+                settings.isFillViewport = in.isFillViewport;
+            }
+            if (has(GRAVITY)) {
+                settings.gravity = in.gravity;
+            }
+            if (has(FIT_METHOD)) {
+                settings.fitMethod = in.fitMethod;
+                settings.geometryVersion++;
+            }
+            if (has(BOUNDS_TYPE)) {
+                settings.boundsType = in.boundsType;
+            }
+            if (has(PAN_ENABLED)) {
+                settings.isPanEnabled = in.isPanEnabled;
+            }
+            if (has(FLING_ENABLED)) {
+                settings.isFlingEnabled = in.isFlingEnabled;
+            }
+            if (has(ZOOM_ENABLED)) {
+                settings.isZoomEnabled = in.isZoomEnabled;
+            }
+            if (has(ROTATION_ENABLED)) {
+                settings.isRotationEnabled = in.isRotationEnabled;
+            }
+            if (has(RESTRICT_ROTATION)) {
+                settings.isRestrictRotation = in.isRestrictRotation;
+            }
+            if (has(DOUBLE_TAP_ENABLED)) {
+                settings.isDoubleTapEnabled = in.isDoubleTapEnabled;
+            }
+            if (has(ANIMATION_DURATION)) {
+                settings.animationsDuration = in.animationsDuration;
+            }
+            if (isExitDisabled) {
+                settings.exitType = ExitType.NONE;
+            }
+            if (isGesturesDisabled) {
+                settings.disableGestures();
+            }
+            if (isBoundsDisabled) {
+                settings.disableBounds();
+            }
+        }
+
+        private boolean has(int attr) {
+            return (specified & attr) != 0;
+        }
+    }
+
+    /**
+     * Identifies XML declaration of gesture attributes: declared gesture attributes values,
+     * style, theme and resources configuration.
+     */
+    private static class AttrsKey {
+
+        // Gesture attributes sorted for binary search
+        private static final int[] sortedStyleable = sort(R.styleable.GestureView.clone());
+
+        private final WeakReference<Resources.Theme> theme;
+        private Configuration configuration;
+        private final int style;
+        private final int[] names;
+        private final String[] values;
+        private final int hash;
+
+        AttrsKey(Context context, AttributeSet attrs) {
+            theme = new WeakReference<>(context.getTheme());
+            // Resources configuration object is mutable, it is only copied for cached keys,
+            // see copyConfiguration()
+            configuration = context.getResources().getConfiguration();
+            style = attrs.getStyleAttribute();
+
+            final int[] styleable = sortedStyleable;
+            final int count = attrs.getAttributeCount();
+            int gestureCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (isGestureAttr(styleable, attrs.getAttributeNameResource(i))) {
+                    gestureCount++;
+                }
+            }
+
+            names = new int[gestureCount];
+            values = new String[gestureCount];
+            for (int i = 0, pos = 0; pos < gestureCount; i++) {
+                final int name = attrs.getAttributeNameResource(i);
+                if (isGestureAttr(styleable, name)) {
+                    names[pos] = name;
+                    values[pos] = attrs.getAttributeValue(i);
+                    pos++;
+                }
+            }
+
+            int result = System.identityHashCode(context.getTheme());
+            result = 31 * result + configuration.hashCode();
+            result = 31 * result + style;
+            result = 31 * result + Arrays.hashCode(names);
+            result = 31 * result + Arrays.hashCode(values);
+            hash = result;
+        }
+
+        void copyConfiguration() {
+            configuration = new Configuration(configuration);
+        }
+
+        private static int[] sort(int[] array) {
+            Arrays.sort(array);
+            return array;
+        }
+
+        private static boolean isGestureAttr(int[] sorted, int name) {
+            return name != 0 && Arrays.binarySearch(sorted, name) >= 0;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof AttrsKey)) {
+                return false;
+            }
+            final AttrsKey other = (AttrsKey) obj;
+            final Resources.Theme otherTheme = other.theme.get();
+            return hash == other.hash
+                    && otherTheme != null && otherTheme == theme.get()
+                    && configuration.equals(other.configuration)
+                    && style == other.style
+                    && Arrays.equals(names, other.names)
+                    && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
@@ -1,17 +1,39 @@
 package com.alexvasilkov.gestures;
 
 import android.graphics.Matrix;
+import android.os.Parcel;
+import android.os.Parcelable;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.alexvasilkov.gestures.core.StateMath;
+import com.alexvasilkov.gestures.core.Transform;
+
 /**
  * Represents 2d transformation state.
+ * <p>
+ * Note, that state is stored in viewport coordinates and depends on image and viewport sizes,
+ * see {@link GestureController#saveInstanceState()} to save state independently of these sizes.
  */
 @SuppressWarnings("WeakerAccess") // Public API (fields and methods)
-public class State {
+public class State implements Parcelable {
+
+    public static final Creator<State> CREATOR = new Creator<State>() {
+        @Override
+        public State createFromParcel(Parcel in) {
+            State state = new State();
+            state.set(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+            return state;
+        }
+
+        @Override
+        public State[] newArray(int size) {
+            return new State[size];
+        }
+    };
 
-    public static final float EPSILON = 0.001f;
+    public static final float EPSILON = StateMath.EPSILON;
 
     private final Matrix matrix = new Matrix();
     private final float[] matrixValues = new float[9];
@@ -57,6 +79,16 @@ public class State {
         matrix.set(this.matrix);
     }
 
+    /**
+     * Applying state to provided Android-independent transformation, i.e. to replay it on the JVM.
+     *
+     * @param transform Target transformation
+     */
+    @SuppressWarnings("unused") // Public API
+    public void get(@NonNull Transform transform) {
+        transform.set(x, y, zoom, rotation);
+    }
+
     public void translateBy(float dx, float dy) {
         matrix.postTranslate(nonNaN(dx), nonNaN(dy));
         updateFromMatrix(false, false); // only translation is changed
@@ -91,12 +123,7 @@ public class State {
 
     public void set(float x, float y, float zoom, float rotation) {
         // Keeping rotation within the range [-180..180]
-        while (rotation < -180f) {
-            rotation += 360f;
-        }
-        while (rotation > 180f) {
-            rotation -= 360f;
-        }
+        rotation = StateMath.normalizeRotation(rotation);
 
         this.x = nonNaN(x);
         this.y = nonNaN(y);
@@ -125,6 +152,16 @@ public class State {
         updateFromMatrix(true, true);
     }
 
+    /**
+     * Applying state from given Android-independent transformation.
+     *
+     * @param transform Source transformation
+     */
+    @SuppressWarnings("unused") // Public API
+    public void set(@NonNull Transform transform) {
+        set(transform.getX(), transform.getY(), transform.getZoom(), transform.getRotation());
+    }
+
     public void set(@NonNull State other) {
         x = other.x;
         y = other.y;
@@ -195,6 +232,19 @@ public class State {
         return result;
     }
 
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeFloat(x);
+        dest.writeFloat(y);
+        dest.writeFloat(zoom);
+        dest.writeFloat(rotation);
+    }
+
     @NonNull
     @Override
     public String toString() {
@@ -210,7 +260,7 @@ public class State {
      */
     @SuppressWarnings("checkstyle:overloadmethodsdeclarationorder")
     public static boolean equals(float v1, float v2) {
-        return v1 >= v2 - EPSILON && v1 <= v2 + EPSILON;
+        return StateMath.equals(v1, v2);
     }
 
     /**
@@ -222,7 +272,7 @@ public class State {
      * is greater than first or 0 if both values are close enough to be considered as equal
      */
     public static int compare(float v1, float v2) {
-        return v1 > v2 + EPSILON ? 1 : v1 < v2 - EPSILON ? -1 : 0;
+        return StateMath.compare(v1, v2);
     }
 
     private static float nonNaN(float value) {
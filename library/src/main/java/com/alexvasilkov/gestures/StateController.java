@@ -1,5 +1,6 @@
 package com.alexvasilkov.gestures;
 
+import android.graphics.Matrix;
 import android.graphics.PointF;
 import android.graphics.Rect;
 import android.graphics.RectF;
@@ -7,7 +8,9 @@ import android.graphics.RectF;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.alexvasilkov.gestures.core.CropDescriptor;
 import com.alexvasilkov.gestures.internal.MovementBounds;
+import com.alexvasilkov.gestures.internal.NormalizedState;
 import com.alexvasilkov.gestures.internal.ZoomBounds;
 import com.alexvasilkov.gestures.utils.GravityUtils;
 
@@ -24,6 +27,8 @@ public class StateController {
     private static final Rect tmpRect = new Rect();
     private static final RectF tmpRectF = new RectF();
     private static final PointF tmpPointF = new PointF();
+    private static final Matrix tmpMatrix = new Matrix();
+    private static final float[] tmpPointArr = new float[2];
 
 
     private final Settings settings;
@@ -34,6 +39,9 @@ public class StateController {
 
     private float zoomPatch;
 
+    private NormalizedState pendingRestore;
+    private CropDescriptor pendingCrop;
+
     StateController(Settings settings) {
         this.settings = settings;
         this.zoomBounds = new ZoomBounds(settings);
@@ -62,15 +70,30 @@ public class StateController {
      */
     boolean updateState(State state) {
         if (isResetRequired) {
+            // We can correctly reset state only when we have both image size and viewport size
+            // but there can be a delay before we have all values properly set
+            // (waiting for layout or waiting for image to be loaded)
+            isResetRequired = !settings.hasImageSize() || !settings.hasViewportSize();
+
+            if (!isResetRequired && pendingRestore != null) {
+                // Applying restored state directly instead of initial state
+                applyNormalizedState(state, pendingRestore);
+                pendingRestore = null;
+                return true;
+            }
+
+            if (!isResetRequired && pendingCrop != null) {
+                // Applying restored crop directly instead of initial state
+                applyCropDescriptor(state, pendingCrop);
+                pendingCrop = null;
+                return true;
+            }
+
             // Applying initial state
             state.set(0f, 0f, zoomBounds.set(state).getFitZoom(), 0f);
             GravityUtils.getImagePosition(state, settings, tmpRect);
             state.translateTo(tmpRect.left, tmpRect.top);
 
-            // We can correctly reset state only when we have both image size and viewport size
-            // but there can be a delay before we have all values properly set
-            // (waiting for layout or waiting for image to be loaded)
-            isResetRequired = !settings.hasImageSize() || !settings.hasViewportSize();
             return !isResetRequired;
         } else {
             // Restricts state's translation and zoom bounds, disallowing overscroll / overzoom.
@@ -79,6 +102,134 @@ public class StateController {
         }
     }
 
+    /**
+     * Schedules state restoration, it will be applied instead of initial state on next reset
+     * once both image size and viewport size are known.
+     *
+     * @param restored State to restore
+     */
+    void setPendingRestore(@Nullable NormalizedState restored) {
+        pendingRestore = restored;
+        pendingCrop = null;
+    }
+
+    /**
+     * Schedules crop restoration, it will be applied instead of initial state on next reset
+     * once both image size and viewport size are known.
+     *
+     * @param crop Crop to restore
+     */
+    void setPendingCrop(@Nullable CropDescriptor crop) {
+        pendingCrop = crop;
+        pendingRestore = null;
+    }
+
+    /**
+     * Drops scheduled state or crop restoration, if any.
+     */
+    void clearPending() {
+        pendingRestore = null;
+        pendingCrop = null;
+    }
+
+    /**
+     * Converts state into normalized form, which does not depend on image and viewport sizes.
+     *
+     * @param state State to convert
+     * @return Normalized state or {@code null} if image or viewport sizes are not known yet.
+     */
+    @Nullable
+    NormalizedState getNormalizedState(State state) {
+        if (pendingRestore != null) {
+            return pendingRestore; // Restored state is not applied yet
+        }
+        if (isResetRequired || !settings.hasImageSize() || !settings.hasViewportSize()) {
+            return null;
+        }
+
+        // Computing image point in viewport center
+        state.get(tmpMatrix);
+        tmpMatrix.invert(tmpMatrix);
+        tmpPointArr[0] = 0.5f * settings.getViewportW();
+        tmpPointArr[1] = 0.5f * settings.getViewportH();
+        tmpMatrix.mapPoints(tmpPointArr);
+
+        final float fitZoom = zoomBounds.set(state).getFitZoom();
+        final float zoom = fitZoom == 0f ? 1f : state.getZoom() / fitZoom;
+
+        return new NormalizedState(zoom, tmpPointArr[0] / settings.getImageW(),
+                tmpPointArr[1] / settings.getImageH(), state.getRotation());
+    }
+
+    /**
+     * Describes image part visible within movement area, independently of image resolution.
+     *
+     * @param state State to convert
+     * @return Crop descriptor or {@code null} if image or viewport sizes are not known yet.
+     */
+    @Nullable
+    CropDescriptor getCropDescriptor(State state) {
+        if (pendingCrop != null) {
+            return pendingCrop; // Restored crop is not applied yet
+        }
+        if (isResetRequired || !settings.hasImageSize() || !settings.hasViewportSize()) {
+            return null;
+        }
+
+        // Computing image point in movement area center
+        GravityUtils.getMovementAreaPosition(settings, tmpRect);
+        state.get(tmpMatrix);
+        tmpMatrix.invert(tmpMatrix);
+        tmpPointArr[0] = tmpRect.exactCenterX();
+        tmpPointArr[1] = tmpRect.exactCenterY();
+        tmpMatrix.mapPoints(tmpPointArr);
+
+        // Crop size at base zoom level (zoom == 1), same as in CropUtils
+        final float width = settings.getMovementAreaW() / state.getZoom();
+        final float height = settings.getMovementAreaH() / state.getZoom();
+        final float imageW = settings.getImageW();
+        final float imageH = settings.getImageH();
+
+        return new CropDescriptor(tmpPointArr[0] / imageW, tmpPointArr[1] / imageH,
+                width / imageW, height / imageH, state.getRotation(),
+                Math.round(width), Math.round(height));
+    }
+
+    private void applyCropDescriptor(State state, CropDescriptor crop) {
+        // Crop width is preserved, crop height can differ if movement area's ratio is changed
+        final float cropW = crop.getWidth() * settings.getImageW();
+        final float zoom = cropW > 0f ? settings.getMovementAreaW() / cropW : 1f;
+        state.set(0f, 0f, zoom, crop.getRotation());
+
+        // Moving crop center into movement area center
+        GravityUtils.getMovementAreaPosition(settings, tmpRect);
+        state.get(tmpMatrix);
+        tmpPointArr[0] = crop.getCenterX() * settings.getImageW();
+        tmpPointArr[1] = crop.getCenterY() * settings.getImageH();
+        tmpMatrix.mapPoints(tmpPointArr);
+        state.translateBy(tmpRect.exactCenterX() - tmpPointArr[0],
+                tmpRect.exactCenterY() - tmpPointArr[1]);
+
+        restrictStateBounds(state, state, Float.NaN, Float.NaN, false, false, true);
+    }
+
+    private void applyNormalizedState(State state, NormalizedState restored) {
+        // Fit zoom depends on rotation
+        state.set(0f, 0f, 1f, restored.getRotation());
+        final float fitZoom = zoomBounds.set(state).getFitZoom();
+        state.set(0f, 0f, restored.getZoom() * fitZoom, restored.getRotation());
+
+        // Moving restored image point into viewport center
+        state.get(tmpMatrix);
+        tmpPointArr[0] = restored.getCenterX() * settings.getImageW();
+        tmpPointArr[1] = restored.getCenterY() * settings.getImageH();
+        tmpMatrix.mapPoints(tmpPointArr);
+        state.translateBy(0.5f * settings.getViewportW() - tmpPointArr[0],
+                0.5f * settings.getViewportH() - tmpPointArr[1]);
+
+        restrictStateBounds(state, state, Float.NaN, Float.NaN, false, false, true);
+    }
+
     public void setTempZoomPatch(float factor) {
         zoomPatch = factor;
     }
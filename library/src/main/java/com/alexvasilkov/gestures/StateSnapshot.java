@@ -0,0 +1,86 @@
+package com.alexvasilkov.gestures;
+
+import android.graphics.Matrix;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Immutable copy of {@link State} which can be safely passed to other threads.
+ * <p>
+ * See {@link GestureController#getStateSnapshot()}.
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public final class StateSnapshot {
+
+    static final StateSnapshot EMPTY = new StateSnapshot(0L, 0f, 0f, 1f, 0f);
+
+    private final long sequence;
+    private final float x;
+    private final float y;
+    private final float zoom;
+    private final float rotation;
+
+    StateSnapshot(long sequence, @NonNull State state) {
+        this(sequence, state.getX(), state.getY(), state.getZoom(), state.getRotation());
+    }
+
+    private StateSnapshot(long sequence, float x, float y, float zoom, float rotation) {
+        this.sequence = sequence;
+        this.x = x;
+        this.y = y;
+        this.zoom = zoom;
+        this.rotation = rotation;
+    }
+
+    /**
+     * @return Sequence number of this snapshot, each next published snapshot will have
+     * greater number. Can be used to skip rendering if state was not changed.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    public float getZoom() {
+        return zoom;
+    }
+
+    /**
+     * @return Rotation in degrees within the range [-180..180].
+     */
+    public float getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Applying snapshot to provided matrix. Matrix will contain translation, scale and rotation.
+     *
+     * @param matrix Target matrix
+     */
+    public void get(@NonNull Matrix matrix) {
+        // Note, that order is vital here, it should be same as in State
+        matrix.reset();
+        if (zoom != 1f) {
+            matrix.postScale(zoom, zoom);
+        }
+        if (rotation != 0f) {
+            matrix.postRotate(rotation);
+        }
+        matrix.postTranslate(x, y);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "{x=" + x + ",y=" + y + ",zoom=" + zoom + ",rotation=" + rotation
+                + ",sequence=" + sequence + "}";
+    }
+
+}
@@ -24,6 +24,7 @@ import com.alexvasilkov.gestures.Settings;
 import com.alexvasilkov.gestures.State;
 import com.alexvasilkov.gestures.internal.AnimationEngine;
 import com.alexvasilkov.gestures.internal.GestureDebug;
+import com.alexvasilkov.gestures.internal.TransitionPlan;
 import com.alexvasilkov.gestures.utils.FloatScroller;
 import com.alexvasilkov.gestures.utils.GravityUtils;
 import com.alexvasilkov.gestures.utils.MathUtils;
@@ -86,6 +87,8 @@ public class ViewPositionAnimator {
     private final RectF fromBoundsClip = new RectF();
     private final RectF toBoundsClip = new RectF();
     private final RectF clipRectTmp = new RectF();
+    private final TransitionPlan plan = new TransitionPlan();
+    private boolean isPlanUpdated;
     private ViewPosition fromPos;
     private ViewPosition toPos;
     private boolean fromNonePos;
@@ -350,7 +353,7 @@ public class ViewPositionAnimator {
         fromView = null;
         fromPos = null;
         fromNonePos = false;
-        isFromUpdated = isToUpdated = false;
+        isFromUpdated = isToUpdated = isPlanUpdated = false;
     }
 
     /**
@@ -496,11 +499,16 @@ public class ViewPositionAnimator {
         fromPosHolder.pause(paused);
         toPosHolder.pause(paused);
 
+        // No interpolation is needed if current position is a final ('to') position, i.e. when
+        // the state is directly controlled by exit gesture. We can skip updating 'from' and 'to'
+        // states in this case, they will be updated once needed.
+        boolean canUpdate = position < toPosition || (isAnimating && position == toPosition);
+
         // Perform state updates if needed
-        if (!isToUpdated) {
+        if (canUpdate && !isToUpdated) {
             updateToState();
         }
-        if (!isFromUpdated) {
+        if (canUpdate && !isFromUpdated) {
             updateFromState();
         }
 
@@ -509,12 +517,15 @@ public class ViewPositionAnimator {
                     + ", 'to' ready = " + isToUpdated + ", 'from' ready = " + isFromUpdated);
         }
 
-        boolean canUpdate = position < toPosition || (isAnimating && position == toPosition);
         if (isToUpdated && isFromUpdated && canUpdate) {
-            State state = toController.getState();
+            if (!isPlanUpdated) {
+                // Interpolation parameters are computed once per 'from' and 'to' states change
+                plan.set(fromState, fromPivotX, fromPivotY, toState, toPivotX, toPivotY);
+                isPlanUpdated = true;
+            }
 
-            MathUtils.interpolate(state, fromState, fromPivotX, fromPivotY,
-                    toState, toPivotX, toPivotY, position / toPosition);
+            State state = toController.getState();
+            plan.interpolate(state, position / toPosition);
 
             toController.updateState();
 
@@ -632,10 +643,12 @@ public class ViewPositionAnimator {
 
     private void requestUpdateToState() {
         isToUpdated = false;
+        isPlanUpdated = false;
     }
 
     private void requestUpdateFromState() {
         isFromUpdated = false;
+        isPlanUpdated = false;
     }
 
     private void updateToState() {
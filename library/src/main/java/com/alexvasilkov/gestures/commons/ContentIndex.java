@@ -0,0 +1,209 @@
+package com.alexvasilkov.gestures.commons;
+
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid spatial index of content items with rectangular bounds, can be used to find items
+ * under given point (hit test) or within visible area in time proportional to the number of found
+ * items instead of total number of items.
+ * <p>
+ * Grid covers content area provided in constructor, items outside of this area are stored in
+ * edge cells. Items added later are considered to be drawn above items added earlier.
+ *
+ * @param <T> Item type
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public class ContentIndex<T> {
+
+    private static final Comparator<Entry<?>> ORDER_COMPARATOR = new Comparator<Entry<?>>() {
+        @Override
+        public int compare(Entry<?> e1, Entry<?> e2) {
+            return e1.order < e2.order ? -1 : (e1.order == e2.order ? 0 : 1);
+        }
+    };
+
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    private final List<List<Entry<T>>> cells; // Cells lists are created lazily
+
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private final List<Entry<T>> tmpEntries = new ArrayList<>();
+
+    private int nextOrder;
+    private int queryId;
+
+    /**
+     * @param width Content width
+     * @param height Content height
+     * @param cellSize Grid cell size in content coordinates, should be comparable with
+     * typical items size
+     */
+    public ContentIndex(float width, float height, float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size should be > 0");
+        }
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cells = new ArrayList<>(Collections.<List<Entry<T>>>nCopies(cols * rows, null));
+    }
+
+    /**
+     * Adds item with given bounds, or updates bounds of already added item.
+     * Updated item keeps its drawing order.
+     *
+     * @param item Content item
+     * @param bounds Item bounds in content coordinates
+     */
+    public void put(@NonNull T item, @NonNull RectF bounds) {
+        Entry<T> entry = entries.get(item);
+        if (entry == null) {
+            entry = new Entry<>(item, nextOrder++);
+            entries.put(item, entry);
+        } else {
+            removeFromCells(entry);
+        }
+        entry.bounds.set(bounds);
+        addToCells(entry);
+    }
+
+    public void remove(@NonNull T item) {
+        final Entry<T> entry = entries.remove(item);
+        if (entry != null) {
+            removeFromCells(entry);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        Collections.fill(cells, null);
+        nextOrder = 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns top-most item which bounds contain given point.
+     *
+     * @param x Point's X coordinate in content coordinates
+     * @param y Point's Y coordinate in content coordinates
+     */
+    @Nullable
+    public T hitTest(float x, float y) {
+        final List<Entry<T>> cell = cells.get(getCellY(y) * cols + getCellX(x));
+        if (cell == null) {
+            return null;
+        }
+        Entry<T> top = null;
+        for (int i = 0, size = cell.size(); i < size; i++) {
+            final Entry<T> entry = cell.get(i);
+            if (entry.bounds.contains(x, y) && (top == null || entry.order > top.order)) {
+                top = entry;
+            }
+        }
+        return top == null ? null : top.item;
+    }
+
+    /**
+     * Collects all items which bounds intersect given area, in drawing order (bottom-most first).
+     *
+     * @param area Area in content coordinates, i.e. visible content rect
+     * @param out Output list, will not be cleared
+     */
+    public void query(@NonNull RectF area, @NonNull List<T> out) {
+        queryId++;
+
+        final int fromX = getCellX(area.left);
+        final int toX = getCellX(area.right);
+        final int fromY = getCellY(area.top);
+        final int toY = getCellY(area.bottom);
+
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                final List<Entry<T>> cell = cells.get(cy * cols + cx);
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0, size = cell.size(); i < size; i++) {
+                    final Entry<T> entry = cell.get(i);
+                    // Items spanning several cells should only be collected once
+                    if (entry.queryId != queryId && RectF.intersects(entry.bounds, area)) {
+                        entry.queryId = queryId;
+                        tmpEntries.add(entry);
+                    }
+                }
+            }
+        }
+
+        Collections.sort(tmpEntries, ORDER_COMPARATOR);
+        for (int i = 0, size = tmpEntries.size(); i < size; i++) {
+            out.add(tmpEntries.get(i).item);
+        }
+        tmpEntries.clear();
+    }
+
+
+    private void addToCells(Entry<T> entry) {
+        final RectF bounds = entry.bounds;
+        for (int cy = getCellY(bounds.top), toY = getCellY(bounds.bottom); cy <= toY; cy++) {
+            for (int cx = getCellX(bounds.left), toX = getCellX(bounds.right); cx <= toX; cx++) {
+                final int pos = cy * cols + cx;
+                List<Entry<T>> cell = cells.get(pos);
+                if (cell == null) {
+                    cell = new ArrayList<>();
+                    cells.set(pos, cell);
+                }
+                cell.add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<T> entry) {
+        final RectF bounds = entry.bounds;
+        for (int cy = getCellY(bounds.top), toY = getCellY(bounds.bottom); cy <= toY; cy++) {
+            for (int cx = getCellX(bounds.left), toX = getCellX(bounds.right); cx <= toX; cx++) {
+                final List<Entry<T>> cell = cells.get(cy * cols + cx);
+                if (cell != null) {
+                    cell.remove(entry);
+                }
+            }
+        }
+    }
+
+    private int getCellX(float x) {
+        final int cell = (int) Math.floor(x / cellSize);
+        return Math.max(0, Math.min(cell, cols - 1));
+    }
+
+    private int getCellY(float y) {
+        final int cell = (int) Math.floor(y / cellSize);
+        return Math.max(0, Math.min(cell, rows - 1));
+    }
+
+
+    private static class Entry<T> {
+        final T item;
+        final int order;
+        final RectF bounds = new RectF();
+        int queryId;
+
+        Entry(T item, int order) {
+            this.item = item;
+            this.order = order;
+        }
+    }
+
+}
@@ -0,0 +1,282 @@
+package com.alexvasilkov.gestures.commons;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+import android.os.SystemClock;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+import com.alexvasilkov.gestures.GestureController;
+import com.alexvasilkov.gestures.Settings;
+import com.alexvasilkov.gestures.animation.ViewPositionAnimator;
+import com.alexvasilkov.gestures.internal.AnimationEngine;
+import com.alexvasilkov.gestures.internal.UnitsUtils;
+import com.alexvasilkov.gestures.utils.GravityUtils;
+import com.alexvasilkov.gestures.views.interfaces.AnimatorView;
+import com.alexvasilkov.gestures.views.interfaces.GestureView;
+
+/**
+ * Debug overlay which draws viewport, movement area and image bounds of a {@link GestureView},
+ * current state source (or position animation progress) and a sparkline of recent frame times,
+ * along with the number of running animations.
+ * <p>
+ * All buffers are preallocated, so no objects are created during drawing and the overlay does
+ * not affect measured performance. The overlay is not redrawn by itself, it only reflects the
+ * moments when the view is redrawn.
+ * <p>
+ * Built-in views draw this overlay if {@link com.alexvasilkov.gestures.internal.GestureDebug
+ * GestureDebug#setDrawDebugOverlay(boolean)} is enabled, custom views can call
+ * {@link #draw(Canvas)} at the end of their drawing.
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public class DebugHud {
+
+    private static final int FRAMES_COUNT = 60;
+    private static final long MAX_FRAME_TIME = 250L; // Longer frames are considered as idle time
+    private static final float TARGET_FRAME_TIME = 1000f / 60f;
+    private static final float SPARKLINE_MAX_TIME = 3f * TARGET_FRAME_TIME;
+
+    private static final float STROKE_WIDTH_DP = 2f;
+    private static final float TEXT_SIZE_DP = 12f;
+    private static final float SPARKLINE_WIDTH_DP = 120f;
+    private static final float SPARKLINE_HEIGHT_DP = 32f;
+
+    private static final int LINES_COUNT = 3;
+    private static final int LINE_LENGTH = 32;
+
+    private final View view;
+    private final GestureController controller;
+    private final ViewPositionAnimator animator;
+
+    private final float stroke;
+    private final float textSize;
+    private final float sparklineWidth;
+    private final float sparklineHeight;
+
+    private final Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF rectF = new RectF();
+    private final Rect rect = new Rect();
+    private final Matrix matrix = new Matrix();
+
+    // Frame times ring buffer
+    private final float[] frames = new float[FRAMES_COUNT];
+    private int framesStart;
+    private int framesCount;
+    private long lastFrameTime;
+
+    private final float[] sparklinePoints = new float[4 * (FRAMES_COUNT - 1)];
+    private final char[][] lines = new char[LINES_COUNT][LINE_LENGTH];
+    private final int[] linesLength = new int[LINES_COUNT];
+
+    /**
+     * @param view View implementing {@link GestureView}, and optionally {@link AnimatorView}
+     */
+    public DebugHud(@NonNull View view) {
+        this.view = view;
+        this.controller = ((GestureView) view).getController();
+        this.animator = view instanceof AnimatorView
+                ? ((AnimatorView) view).getPositionAnimator() : null;
+
+        final Context context = view.getContext();
+        stroke = UnitsUtils.toPixels(context, STROKE_WIDTH_DP);
+        textSize = UnitsUtils.toPixels(context, TEXT_SIZE_DP);
+        sparklineWidth = UnitsUtils.toPixels(context, SPARKLINE_WIDTH_DP);
+        sparklineHeight = UnitsUtils.toPixels(context, SPARKLINE_HEIGHT_DP);
+
+        paint.setTypeface(Typeface.MONOSPACE);
+        paint.setTextSize(textSize);
+    }
+
+    public void draw(@NonNull Canvas canvas) {
+        recordFrame();
+
+        final Settings settings = controller.getSettings();
+
+        canvas.save();
+        canvas.translate(view.getPaddingLeft(), view.getPaddingTop());
+
+        // Viewport
+        rectF.set(0f, 0f, settings.getViewportW(), settings.getViewportH());
+        drawRect(canvas, Color.GRAY, stroke);
+
+        // Movement area
+        GravityUtils.getMovementAreaPosition(settings, rect);
+        rectF.set(rect);
+        drawRect(canvas, Color.GREEN, stroke);
+
+        // Image bounds with rotation
+        controller.getState().get(matrix);
+        canvas.save();
+        canvas.concat(matrix);
+        rectF.set(0f, 0f, settings.getImageW(), settings.getImageH());
+        drawRect(canvas, Color.YELLOW, stroke / controller.getState().getZoom());
+        canvas.restore();
+
+        // Image bounds
+        rectF.set(0f, 0f, settings.getImageW(), settings.getImageH());
+        matrix.mapRect(rectF);
+        drawRect(canvas, Color.RED, stroke);
+
+        canvas.restore();
+
+        drawInfo(canvas);
+    }
+
+    private void recordFrame() {
+        final long now = SystemClock.uptimeMillis();
+        final long time = now - lastFrameTime;
+        lastFrameTime = now;
+
+        if (time > MAX_FRAME_TIME) {
+            return; // Idle time between redraws
+        }
+
+        if (framesCount < FRAMES_COUNT) {
+            frames[(framesStart + framesCount) % FRAMES_COUNT] = time;
+            framesCount++;
+        } else {
+            frames[framesStart] = time;
+            framesStart = (framesStart + 1) % FRAMES_COUNT;
+        }
+    }
+
+    private void drawInfo(Canvas canvas) {
+        // State source or position animation progress
+        linesLength[0] = 0;
+        final float pos = animator == null ? 1f : animator.getPosition();
+        if (pos == 1f || (pos == 0f && animator.isLeaving())) {
+            append(0, controller.getStateSource().name());
+        } else if (pos > 0f) {
+            append(0, animator.isLeaving() ? "EXIT " : "ENTER ");
+            append(0, Math.round(pos * 100f));
+            append(0, "%");
+        }
+
+        // Frame times
+        float last = 0f;
+        float max = 0f;
+        for (int i = 0; i < framesCount; i++) {
+            max = Math.max(max, frames[(framesStart + i) % FRAMES_COUNT]);
+        }
+        if (framesCount > 0) {
+            last = frames[(framesStart + framesCount - 1) % FRAMES_COUNT];
+        }
+        linesLength[1] = 0;
+        append(1, "frame ");
+        append(1, Math.round(last));
+        append(1, "ms max ");
+        append(1, Math.round(max));
+        append(1, "ms");
+
+        // Animation engines
+        linesLength[2] = 0;
+        append(2, "anim ");
+        append(2, AnimationEngine.getRunningCount());
+        append(2, " steps ");
+        append(2, AnimationEngine.getStepsCount());
+
+        // Background
+        final float padding = 0.5f * textSize;
+        final float lineHeight = 1.25f * textSize;
+        final float left = view.getPaddingLeft() + padding;
+        final float top = view.getPaddingTop() + padding;
+        rectF.set(left, top, left + sparklineWidth + 2f * padding,
+                top + LINES_COUNT * lineHeight + sparklineHeight + 3f * padding);
+        paint.setStyle(Paint.Style.FILL);
+        paint.setColor(Color.argb(200, 255, 255, 255));
+        canvas.drawRoundRect(rectF, padding, padding, paint);
+
+        // Text
+        paint.setTextAlign(Paint.Align.LEFT);
+        for (int i = 0; i < LINES_COUNT; i++) {
+            paint.setColor(i == 0 && pos != 1f ? Color.MAGENTA : Color.DKGRAY);
+            canvas.drawText(lines[i], 0, linesLength[i],
+                    left + padding, top + padding + (i + 1) * lineHeight - 0.25f * textSize, paint);
+        }
+
+        // Sparkline
+        final float sparkLeft = left + padding;
+        final float sparkBottom = rectF.bottom - padding;
+        final float sparkTop = sparkBottom - sparklineHeight;
+
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(0.5f * stroke);
+
+        // Target frame time line
+        paint.setColor(Color.GREEN);
+        final float targetY =
+                sparkBottom - sparklineHeight * TARGET_FRAME_TIME / SPARKLINE_MAX_TIME;
+        canvas.drawLine(sparkLeft, targetY, sparkLeft + sparklineWidth, targetY, paint);
+
+        if (framesCount > 1) {
+            final float step = sparklineWidth / (FRAMES_COUNT - 1);
+            int count = 0;
+            for (int i = 1; i < framesCount; i++) {
+                sparklinePoints[count++] = sparkLeft + (i - 1) * step;
+                sparklinePoints[count++] = toSparklineY(i - 1, sparkTop, sparkBottom);
+                sparklinePoints[count++] = sparkLeft + i * step;
+                sparklinePoints[count++] = toSparklineY(i, sparkTop, sparkBottom);
+            }
+            paint.setColor(max > 2f * TARGET_FRAME_TIME ? Color.RED : Color.BLUE);
+            canvas.drawLines(sparklinePoints, 0, count, paint);
+        }
+    }
+
+    private float toSparklineY(int index, float top, float bottom) {
+        final float time = frames[(framesStart + index) % FRAMES_COUNT];
+        final float factor = Math.min(time / SPARKLINE_MAX_TIME, 1f);
+        return bottom - (bottom - top) * factor;
+    }
+
+    private void drawRect(Canvas canvas, int color, float stroke) {
+        paint.setStyle(Paint.Style.STROKE);
+        paint.setStrokeWidth(stroke);
+        rectF.inset(0.5f * stroke, 0.5f * stroke);
+        paint.setColor(color);
+        canvas.drawRect(rectF, paint);
+    }
+
+    private void append(int line, String str) {
+        final char[] chars = lines[line];
+        int length = linesLength[line];
+        for (int i = 0, size = str.length(); i < size && length < LINE_LENGTH; i++) {
+            chars[length++] = str.charAt(i);
+        }
+        linesLength[line] = length;
+    }
+
+    private void append(int line, long value) {
+        final char[] chars = lines[line];
+        int length = linesLength[line];
+        if (value < 0L) {
+            if (length < LINE_LENGTH) {
+                chars[length++] = '-';
+            }
+            value = -value;
+        }
+
+        // Counting digits
+        int digits = 1;
+        for (long rest = value / 10L; rest > 0L; rest /= 10L) {
+            digits++;
+        }
+        if (length + digits > LINE_LENGTH) {
+            linesLength[line] = length;
+            return;
+        }
+
+        for (int i = length + digits - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + value % 10L);
+            value /= 10L;
+        }
+        linesLength[line] = length + digits;
+    }
+
+}
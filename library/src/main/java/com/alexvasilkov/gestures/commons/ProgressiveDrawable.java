@@ -0,0 +1,217 @@
+package com.alexvasilkov.gestures.commons;
+
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.alexvasilkov.gestures.views.GestureImageView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drawable which shows several sources of the same image with increasing resolution, i.e. low
+ * resolution preview followed by full size image. Each source is stretched to the size provided
+ * in constructor, and each next source is crossfaded over previous ones.
+ * <p>
+ * Since intrinsic size of this drawable never changes, the state of {@link GestureImageView}
+ * stays exactly the same when new sources are added, no zoom compensation or bounds recalculation
+ * is needed. Usage:
+ * <pre>{@code
+ * ProgressiveDrawable image = new ProgressiveDrawable(fullWidth, fullHeight);
+ * image.addSource(previewDrawable);
+ * gestureImageView.setImageDrawable(image);
+ * ...
+ * image.addSource(fullDrawable); // Once full image is loaded
+ * }</pre>
+ * Previous sources are released once they are fully covered by next source,
+ * see {@link #setOnSourceReleasedListener(OnSourceReleasedListener)}.
+ */
+@SuppressWarnings("unused") // Public API
+public class ProgressiveDrawable extends Drawable implements Drawable.Callback {
+
+    private static final long FADE_DURATION = 150L;
+
+    private final int width;
+    private final int height;
+
+    private final List<Drawable> sources = new ArrayList<>();
+    private long fadeStartTime = -1L;
+    private long fadeDuration = FADE_DURATION;
+
+    private int alpha = 255;
+    private ColorFilter colorFilter;
+
+    private OnSourceReleasedListener releasedListener;
+
+    /**
+     * @param width Image width, all sources will be stretched to this width
+     * @param height Image height, all sources will be stretched to this height
+     */
+    public ProgressiveDrawable(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Adds next image source, which should have higher resolution than already added sources.
+     * Source will be crossfaded over previous sources.
+     *
+     * @param source Image source
+     */
+    public void addSource(@NonNull Drawable source) {
+        // Mutating to be able to change source alpha without affecting other drawables
+        final Drawable mutated = source.mutate();
+        mutated.setBounds(getBounds());
+        mutated.setColorFilter(colorFilter);
+        mutated.setCallback(this);
+
+        sources.add(mutated);
+
+        // No need to animate the very first source
+        fadeStartTime = sources.size() > 1 && fadeDuration > 0L ? SystemClock.uptimeMillis() : -1L;
+        if (fadeStartTime == -1L) {
+            releaseCoveredSources();
+        }
+        invalidateSelf();
+    }
+
+    /**
+     * @return Number of currently held sources.
+     */
+    public int getSourcesCount() {
+        return sources.size();
+    }
+
+    /**
+     * @param duration Duration of crossfade animation between sources, default is 150 ms.
+     * Pass 0 to replace sources without animation.
+     */
+    public void setFadeDuration(long duration) {
+        fadeDuration = duration;
+    }
+
+    public void setOnSourceReleasedListener(@Nullable OnSourceReleasedListener listener) {
+        releasedListener = listener;
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        final int count = sources.size();
+        if (count == 0) {
+            return;
+        }
+
+        float fade = 1f;
+        if (fadeStartTime != -1L) {
+            fade = (float) (SystemClock.uptimeMillis() - fadeStartTime) / fadeDuration;
+            if (fade >= 1f) {
+                fade = 1f;
+                fadeStartTime = -1L;
+            }
+        }
+
+        if (fadeStartTime == -1L) {
+            // Previous sources are fully covered now
+            releaseCoveredSources();
+        }
+
+        for (int i = 0, size = sources.size(); i < size; i++) {
+            final Drawable source = sources.get(i);
+            final boolean isTop = i == size - 1;
+            source.setAlpha(isTop ? Math.round(alpha * fade) : alpha);
+            source.draw(canvas);
+        }
+
+        if (fadeStartTime != -1L) {
+            invalidateSelf(); // Continue crossfade animation
+        }
+    }
+
+    private void releaseCoveredSources() {
+        while (sources.size() > 1) {
+            final Drawable source = sources.remove(0);
+            source.setCallback(null);
+            if (releasedListener != null) {
+                releasedListener.onSourceReleased(source);
+            }
+        }
+    }
+
+    @Override
+    protected void onBoundsChange(Rect bounds) {
+        for (Drawable source : sources) {
+            source.setBounds(bounds);
+        }
+    }
+
+    @Override
+    public int getIntrinsicWidth() {
+        return width;
+    }
+
+    @Override
+    public int getIntrinsicHeight() {
+        return height;
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        this.alpha = alpha;
+        invalidateSelf();
+    }
+
+    @Override
+    public int getAlpha() {
+        return alpha;
+    }
+
+    @Override
+    public void setColorFilter(@Nullable ColorFilter colorFilter) {
+        this.colorFilter = colorFilter;
+        for (Drawable source : sources) {
+            source.setColorFilter(colorFilter);
+        }
+        invalidateSelf();
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+
+
+    @Override
+    public void invalidateDrawable(@NonNull Drawable who) {
+        invalidateSelf();
+    }
+
+    @Override
+    public void scheduleDrawable(@NonNull Drawable who, @NonNull Runnable what, long when) {
+        scheduleSelf(what, when);
+    }
+
+    @Override
+    public void unscheduleDrawable(@NonNull Drawable who, @NonNull Runnable what) {
+        unscheduleSelf(what);
+    }
+
+
+    public interface OnSourceReleasedListener {
+        /**
+         * Called when source is fully covered by higher resolution source and is not used
+         * anymore. Can be used to release source's resources (i.e. to recycle bitmap).
+         *
+         * @param source Released source
+         */
+        void onSourceReleased(@NonNull Drawable source);
+    }
+
+}
@@ -1,26 +1,43 @@
-package com.alexvasilkov.gestures.sample.ex.other.markers;
+package com.alexvasilkov.gestures.commons.markers;
 
+import android.graphics.Matrix;
+import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
 import android.view.Gravity;
 
-@SuppressWarnings({ "WeakerAccess", "UnusedReturnValue", "SameParameterValue" }) // Public API
+/**
+ * Marker pinned to particular image point, to be shown with {@link MarkersOverlay}.
+ * <p>
+ * Note, that marker's location is indexed once marker is added to the overlay, so
+ * {@link MarkersOverlay#notifyMarkersChanged()} should be called if location is changed later.
+ */
+@SuppressWarnings({ "WeakerAccess", "UnusedReturnValue", "unused" }) // Public API
 public class Marker {
 
+    // Temporary objects
+    private static final Rect tmpRect = new Rect();
+    private static final Rect tmpPosRect = new Rect();
+
     private Drawable icon;
     private int gravity = Gravity.TOP | Gravity.LEFT;
-    private int locationX = 0;
-    private int locationY = 0;
+    private float locationX = 0f;
+    private float locationY = 0f;
     private int offsetX = 0;
     private int offsetY = 0;
     private float scale = 1f;
     private float rotation = 0f;
     private Mode mode = Mode.PIN;
 
+    // Cached icon transformation, see getIconMatrix()
+    private final Matrix iconMatrix = new Matrix();
+    private boolean isIconMatrixDirty = true;
+
     /**
      * @param icon Drawable to be shown
      */
     public Marker setIcon(Drawable icon) {
         this.icon = icon;
+        isIconMatrixDirty = true;
         return this;
     }
 
@@ -35,6 +52,7 @@ public class Marker {
      */
     public Marker setGravity(int gravity) {
         this.gravity = gravity;
+        isIconMatrixDirty = true;
         return this;
     }
 
@@ -46,17 +64,17 @@ public class Marker {
      * @param x X coordinate in pixels relative to original image.
      * @param y Y coordinate in pixels relative to original image.
      */
-    public Marker setLocation(int x, int y) {
+    public Marker setLocation(float x, float y) {
         locationX = x;
         locationY = y;
         return this;
     }
 
-    public int getLocationX() {
+    public float getLocationX() {
         return locationX;
     }
 
-    public int getLocationY() {
+    public float getLocationY() {
         return locationY;
     }
 
@@ -67,6 +85,7 @@ public class Marker {
     public Marker setOffset(int x, int y) {
         offsetX = x;
         offsetY = y;
+        isIconMatrixDirty = true;
         return this;
     }
 
@@ -83,6 +102,7 @@ public class Marker {
      */
     public Marker setScale(float scale) {
         this.scale = scale;
+        isIconMatrixDirty = true;
         return this;
     }
 
@@ -95,6 +115,7 @@ public class Marker {
      */
     public Marker setRotation(float rotation) {
         this.rotation = rotation;
+        isIconMatrixDirty = true;
         return this;
     }
 
@@ -112,6 +133,41 @@ public class Marker {
     }
 
 
+    /**
+     * Returns matrix which positions icon's focal point (specified by gravity and offsets)
+     * at (0, 0), with marker's scale and rotation applied.
+     */
+    Matrix getIconMatrix() {
+        if (isIconMatrixDirty) {
+            isIconMatrixDirty = false;
+
+            tmpRect.set(0, 0, icon.getIntrinsicWidth(), icon.getIntrinsicHeight());
+            Gravity.apply(gravity, 0, 0, tmpRect, tmpPosRect);
+
+            iconMatrix.reset();
+            iconMatrix.postTranslate(offsetX - tmpPosRect.left, offsetY - tmpPosRect.top);
+            if (scale != 1f) {
+                iconMatrix.postScale(scale, scale);
+            }
+            if (rotation != 0f) {
+                iconMatrix.postRotate(rotation);
+            }
+        }
+        return iconMatrix;
+    }
+
+    /**
+     * Returns conservative estimation of max distance between marker's location and any point of
+     * its icon, regardless of gravity and rotation.
+     */
+    float getIconExtent() {
+        final int width = icon.getIntrinsicWidth();
+        final int height = icon.getIntrinsicHeight();
+        return (Math.max(width, 0) + Math.max(height, 0) + Math.abs(offsetX) + Math.abs(offsetY))
+                * Math.abs(scale);
+    }
+
+
     public enum Mode {
         /**
          * Pin is attached to an image according to specified gravity
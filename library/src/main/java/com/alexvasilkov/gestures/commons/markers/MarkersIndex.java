@@ -0,0 +1,255 @@
+package com.alexvasilkov.gestures.commons.markers;
+
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid spatial index of markers in image coordinates.
+ * <p>
+ * Markers are stored sorted by grid cell, so markers within any cell (and within any rectangular
+ * range of cells) can be iterated without extra allocations. The index is rebuilt lazily on first
+ * query after markers were changed.
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public class MarkersIndex {
+
+    // Max number of grid cells per marker, cell size will be increased to fit this limit
+    private static final int MAX_CELLS_PER_MARKER = 4;
+
+    private final List<Marker> markers = new ArrayList<>();
+    private float requestedCellSize;
+
+    private boolean isDirty = true;
+
+    private Marker[] sorted = new Marker[0];
+    private int[] cellStarts = new int[1];
+    private float cellSize;
+    private float originX;
+    private float originY;
+    private int cols;
+    private int rows;
+
+    private float maxPinExtent;
+    private float maxStickExtent;
+
+    /**
+     * Sets grid cell size in image pixels. If not set (or set to 0) the cell size will be chosen
+     * automatically to have about one marker per cell.
+     *
+     * @param size Grid cell size in image pixels
+     */
+    public void setCellSize(float size) {
+        requestedCellSize = size;
+        isDirty = true;
+    }
+
+    public void add(@NonNull Marker marker) {
+        if (marker.getIcon() == null) {
+            throw new IllegalArgumentException("Marker must have an icon");
+        }
+        markers.add(marker);
+        isDirty = true;
+    }
+
+    public void remove(@NonNull Marker marker) {
+        if (markers.remove(marker)) {
+            isDirty = true;
+        }
+    }
+
+    public void clear() {
+        markers.clear();
+        isDirty = true;
+    }
+
+    public int size() {
+        return markers.size();
+    }
+
+    /**
+     * Marks index as outdated, should be called if markers' locations or icons were changed.
+     */
+    public void invalidate() {
+        isDirty = true;
+    }
+
+    /**
+     * Collects all markers located within given area (in image coordinates).
+     *
+     * @param area Area in image coordinates
+     * @param out Output list, will not be cleared
+     */
+    public void query(@NonNull RectF area, @NonNull List<Marker> out) {
+        ensureBuilt();
+        if (sorted.length == 0) {
+            return;
+        }
+
+        final int fromX = getCellX(area.left);
+        final int toX = getCellX(area.right);
+        final int fromY = getCellY(area.top);
+        final int toY = getCellY(area.bottom);
+
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                for (int i = getCellStart(cx, cy), end = getCellEnd(cx, cy); i < end; i++) {
+                    final Marker marker = sorted[i];
+                    if (area.contains(marker.getLocationX(), marker.getLocationY())) {
+                        out.add(marker);
+                    }
+                }
+            }
+        }
+    }
+
+
+    void ensureBuilt() {
+        if (isDirty) {
+            isDirty = false;
+            build();
+        }
+    }
+
+    float getCellSize() {
+        return cellSize;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns cell column for given X coordinate, restricted to grid bounds.
+     */
+    int getCellX(float x) {
+        final int cell = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(cell, cols - 1));
+    }
+
+    /**
+     * Returns cell row for given Y coordinate, restricted to grid bounds.
+     */
+    int getCellY(float y) {
+        final int cell = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(cell, rows - 1));
+    }
+
+    int getCellStart(int cx, int cy) {
+        return cellStarts[cy * cols + cx];
+    }
+
+    int getCellEnd(int cx, int cy) {
+        return cellStarts[cy * cols + cx + 1];
+    }
+
+    Marker get(int index) {
+        return sorted[index];
+    }
+
+    float getMaxPinExtent() {
+        return maxPinExtent;
+    }
+
+    float getMaxStickExtent() {
+        return maxStickExtent;
+    }
+
+
+    private void build() {
+        final int count = markers.size();
+
+        maxPinExtent = 0f;
+        maxStickExtent = 0f;
+
+        if (count == 0) {
+            sorted = new Marker[0];
+            cellStarts = new int[1];
+            cols = rows = 0;
+            cellSize = 1f;
+            return;
+        }
+
+        // Computing markers bounds
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            final Marker marker = markers.get(i);
+            minX = Math.min(minX, marker.getLocationX());
+            minY = Math.min(minY, marker.getLocationY());
+            maxX = Math.max(maxX, marker.getLocationX());
+            maxY = Math.max(maxY, marker.getLocationY());
+
+            if (marker.getMode() == Marker.Mode.PIN) {
+                maxPinExtent = Math.max(maxPinExtent, marker.getIconExtent());
+            } else {
+                maxStickExtent = Math.max(maxStickExtent, marker.getIconExtent());
+            }
+        }
+
+        final float width = maxX - minX;
+        final float height = maxY - minY;
+
+        float size = requestedCellSize;
+        if (size <= 0f) {
+            // About one marker per cell in average
+            size = (float) Math.sqrt(width * height / count);
+        }
+        size = Math.max(size, 1f);
+
+        // Limiting total number of cells
+        final long maxCells = (long) count * MAX_CELLS_PER_MARKER + 1L;
+        while ((long) getCellsCount(width, size) * getCellsCount(height, size) > maxCells) {
+            size *= 2f;
+        }
+
+        cellSize = size;
+        originX = minX;
+        originY = minY;
+        cols = getCellsCount(width, size);
+        rows = getCellsCount(height, size);
+
+        // Counting sort by cell index
+        final int cells = cols * rows;
+        if (cellStarts.length != cells + 1) {
+            cellStarts = new int[cells + 1];
+        } else {
+            Arrays.fill(cellStarts, 0);
+        }
+        for (int i = 0; i < count; i++) {
+            cellStarts[getCellIndex(markers.get(i)) + 1]++;
+        }
+        for (int i = 1; i <= cells; i++) {
+            cellStarts[i] += cellStarts[i - 1];
+        }
+
+        if (sorted.length != count) {
+            sorted = new Marker[count];
+        }
+        final int[] positions = new int[cells];
+        System.arraycopy(cellStarts, 0, positions, 0, cells);
+        for (int i = 0; i < count; i++) {
+            final Marker marker = markers.get(i);
+            sorted[positions[getCellIndex(marker)]++] = marker;
+        }
+    }
+
+    private int getCellIndex(Marker marker) {
+        return getCellY(marker.getLocationY()) * cols + getCellX(marker.getLocationX());
+    }
+
+    private static int getCellsCount(float length, float cellSize) {
+        return (int) (length / cellSize) + 1;
+    }
+
+}
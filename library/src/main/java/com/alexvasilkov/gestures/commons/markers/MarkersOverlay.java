@@ -0,0 +1,380 @@
+package com.alexvasilkov.gestures.commons.markers;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.alexvasilkov.gestures.GestureController;
+import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.internal.UnitsUtils;
+
+/**
+ * View to draw markers on top of a view controlled by {@link GestureController}, once it's
+ * attached with {@link #attachTo(GestureController)} and markers are added with
+ * {@link #addMarker(Marker)}. This view is expected to have same position, size and paddings as
+ * the gesture view.
+ * <p>
+ * Markers are stored in {@link MarkersIndex}, so only markers within visible part of the image
+ * are processed on each draw, which allows showing tens of thousands of markers.
+ * <p>
+ * When zoomed out, markers close to each other are grouped into clusters
+ * (see {@link #setClusterSize(float)} and {@link #setClusterDrawer(ClusterDrawer)}).
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public class MarkersOverlay extends View {
+
+    private static final float CLUSTER_SIZE_DP = 64f;
+    private static final int MIN_CLUSTER_COUNT = 2;
+
+    // Temporary objects
+    private static final RectF tmpRectF = new RectF();
+
+    private final MarkersIndex index = new MarkersIndex();
+
+    private final Matrix imageMatrix = new Matrix();
+    private final Matrix imageMatrixInverse = new Matrix();
+    private final float[] imageMatrixValues = new float[9];
+
+    private final GestureController.OnStateChangeListener stateListener =
+            new GestureController.OnStateChangeListener() {
+                @Override
+                public void onStateChanged(State state) {
+                    invalidate();
+                }
+
+                @Override
+                public void onStateReset(State oldState, State newState) {
+                    invalidate();
+                }
+            };
+
+    private GestureController controller;
+
+    private float clusterSize;
+    private float maxClusterZoom = Float.MAX_VALUE;
+    private int minClusterCount = MIN_CLUSTER_COUNT;
+    private ClusterDrawer clusterDrawer;
+
+    public MarkersOverlay(Context context) {
+        this(context, null);
+    }
+
+    public MarkersOverlay(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public MarkersOverlay(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        clusterSize = UnitsUtils.toPixels(context, CLUSTER_SIZE_DP);
+        clusterDrawer = new DefaultClusterDrawer(context);
+    }
+
+    /**
+     * Attaches this overlay to given controller, markers will be redrawn whenever controller's
+     * state is changed.
+     *
+     * @param controller Target controller, or {@code null} to detach
+     */
+    public void attachTo(@Nullable GestureController controller) {
+        if (this.controller != null) {
+            this.controller.removeOnStateChangeListener(stateListener);
+        }
+        this.controller = controller;
+        if (controller != null) {
+            controller.addOnStateChangeListener(stateListener);
+        }
+        invalidate();
+    }
+
+    /**
+     * Shows marker at specified position with specified gravity.
+     */
+    public void addMarker(@NonNull Marker marker) {
+        index.add(marker);
+        invalidate();
+    }
+
+    public void removeMarker(@NonNull Marker marker) {
+        index.remove(marker);
+        invalidate();
+    }
+
+    public void clearMarkers() {
+        index.clear();
+        invalidate();
+    }
+
+    /**
+     * Should be called if location, icon or mode of any of added markers was changed.
+     */
+    public void notifyMarkersChanged() {
+        index.invalidate();
+        invalidate();
+    }
+
+    /**
+     * @return Markers spatial index, can be used to find markers within particular image area.
+     */
+    public MarkersIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets approximate size (in pixels) of screen area which markers will be grouped into
+     * a single cluster. Default value is 64dp. Set to 0 to disable clustering.
+     *
+     * @param size Cluster size in pixels
+     */
+    public void setClusterSize(float size) {
+        clusterSize = size;
+        invalidate();
+    }
+
+    /**
+     * Clustering will only be applied if current zoom level is smaller than given value.
+     * No limit by default.
+     *
+     * @param zoom Max zoom level at which markers can be clustered
+     */
+    public void setMaxClusterZoom(float zoom) {
+        maxClusterZoom = zoom;
+        invalidate();
+    }
+
+    /**
+     * @param count Min number of markers to be grouped into a cluster. Default value is 2.
+     */
+    public void setMinClusterCount(int count) {
+        minClusterCount = Math.max(count, MIN_CLUSTER_COUNT);
+        invalidate();
+    }
+
+    public void setClusterDrawer(@NonNull ClusterDrawer drawer) {
+        clusterDrawer = drawer;
+        invalidate();
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas) {
+        super.draw(canvas);
+
+        if (controller == null || index.size() == 0) {
+            return;
+        }
+
+        final State state = controller.getState();
+        final float zoom = state.getZoom();
+        if (zoom <= 0f) {
+            return;
+        }
+
+        index.ensureBuilt();
+
+        state.get(imageMatrix);
+        imageMatrix.postTranslate(getPaddingLeft(), getPaddingTop());
+        imageMatrix.getValues(imageMatrixValues);
+        if (!imageMatrix.invert(imageMatrixInverse)) {
+            return;
+        }
+
+        // Computing visible image area, including icons which may stick into the view
+        tmpRectF.set(0f, 0f, getWidth(), getHeight());
+        imageMatrixInverse.mapRect(tmpRectF);
+        final float margin = Math.max(index.getMaxPinExtent() / zoom, index.getMaxStickExtent());
+        tmpRectF.inset(-margin, -margin);
+
+        // Number of grid cells (along each axis) to be grouped into single cluster
+        final int block = clusterSize > 0f && zoom < maxClusterZoom
+                ? Math.max(1, (int) (clusterSize / zoom / index.getCellSize())) : 1;
+
+        final int fromX = index.getCellX(tmpRectF.left) / block;
+        final int toX = index.getCellX(tmpRectF.right) / block;
+        final int fromY = index.getCellY(tmpRectF.top) / block;
+        final int toY = index.getCellY(tmpRectF.bottom) / block;
+
+        // Sticky markers are drawn first in a single batch using image matrix,
+        // pinned markers and clusters are drawn above them using screen coordinates
+        if (index.getMaxStickExtent() > 0f) {
+            canvas.save();
+            canvas.concat(imageMatrix);
+            drawMarkers(canvas, fromX, toX, fromY, toY, block, Marker.Mode.STICK);
+            canvas.restore();
+        }
+        drawMarkers(canvas, fromX, toX, fromY, toY, block, Marker.Mode.PIN);
+    }
+
+    private void drawMarkers(Canvas canvas, int fromX, int toX, int fromY, int toY, int block,
+            Marker.Mode mode) {
+
+        final int cols = index.getCols();
+        final int rows = index.getRows();
+
+        for (int by = fromY; by <= toY; by++) {
+            final int cellFromY = by * block;
+            final int cellToY = Math.min(cellFromY + block, rows) - 1;
+
+            for (int bx = fromX; bx <= toX; bx++) {
+                final int cellFromX = bx * block;
+                final int cellToX = Math.min(cellFromX + block, cols) - 1;
+
+                if (block > 1) {
+                    final int count = countMarkers(cellFromX, cellToX, cellFromY, cellToY);
+                    if (count >= minClusterCount) {
+                        if (mode == Marker.Mode.PIN) {
+                            drawCluster(canvas, cellFromX, cellToX, cellFromY, cellToY, count);
+                        }
+                        continue;
+                    }
+                }
+
+                for (int cy = cellFromY; cy <= cellToY; cy++) {
+                    for (int cx = cellFromX; cx <= cellToX; cx++) {
+                        for (int i = index.getCellStart(cx, cy), end = index.getCellEnd(cx, cy);
+                                i < end; i++) {
+                            final Marker marker = index.get(i);
+                            if (marker.getMode() == mode) {
+                                drawMarker(canvas, marker);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private int countMarkers(int fromX, int toX, int fromY, int toY) {
+        int count = 0;
+        for (int cy = fromY; cy <= toY; cy++) {
+            // Markers in consecutive cells of the same row are stored consecutively
+            count += index.getCellEnd(toX, cy) - index.getCellStart(fromX, cy);
+        }
+        return count;
+    }
+
+    private void drawCluster(Canvas canvas, int fromX, int toX, int fromY, int toY, int count) {
+        // Computing markers center
+        float sumX = 0f;
+        float sumY = 0f;
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int i = index.getCellStart(fromX, cy), end = index.getCellEnd(toX, cy);
+                    i < end; i++) {
+                final Marker marker = index.get(i);
+                sumX += marker.getLocationX();
+                sumY += marker.getLocationY();
+            }
+        }
+
+        final float[] values = imageMatrixValues;
+        final float imageX = sumX / count;
+        final float imageY = sumY / count;
+        final float screenX = values[Matrix.MSCALE_X] * imageX
+                + values[Matrix.MSKEW_X] * imageY + values[Matrix.MTRANS_X];
+        final float screenY = values[Matrix.MSKEW_Y] * imageX
+                + values[Matrix.MSCALE_Y] * imageY + values[Matrix.MTRANS_Y];
+
+        clusterDrawer.drawCluster(canvas, screenX, screenY, count);
+    }
+
+    private void drawMarker(Canvas canvas, Marker marker) {
+        final float x;
+        final float y;
+
+        if (marker.getMode() == Marker.Mode.PIN) {
+            // Computing marker location on the screen, icon will not be zoomed or rotated
+            final float[] values = imageMatrixValues;
+            final float imageX = marker.getLocationX();
+            final float imageY = marker.getLocationY();
+            x = values[Matrix.MSCALE_X] * imageX
+                    + values[Matrix.MSKEW_X] * imageY + values[Matrix.MTRANS_X];
+            y = values[Matrix.MSKEW_Y] * imageX
+                    + values[Matrix.MSCALE_Y] * imageY + values[Matrix.MTRANS_Y];
+        } else {
+            // Canvas is already transformed with image matrix
+            x = marker.getLocationX();
+            y = marker.getLocationY();
+        }
+
+        final Drawable icon = marker.getIcon();
+        final int width = icon.getIntrinsicWidth();
+        final int height = icon.getIntrinsicHeight();
+        final Rect bounds = icon.getBounds();
+        if (bounds.left != 0 || bounds.top != 0
+                || bounds.right != width || bounds.bottom != height) {
+            icon.setBounds(0, 0, width, height);
+        }
+
+        canvas.save();
+        canvas.translate(x, y);
+        canvas.concat(marker.getIconMatrix());
+        icon.draw(canvas);
+        canvas.restore();
+    }
+
+
+    public interface ClusterDrawer {
+        /**
+         * Draws cluster of markers.
+         *
+         * @param canvas Canvas to draw on
+         * @param x Cluster center X coordinate on the canvas
+         * @param y Cluster center Y coordinate on the canvas
+         * @param count Number of markers in the cluster
+         */
+        void drawCluster(@NonNull Canvas canvas, float x, float y, int count);
+    }
+
+    /**
+     * Draws circle with markers count inside.
+     */
+    public static class DefaultClusterDrawer implements ClusterDrawer {
+
+        private static final int BACK_COLOR = Color.argb(200, 0, 0, 0);
+        private static final int TEXT_COLOR = Color.WHITE;
+        private static final float RADIUS_DP = 16f;
+        private static final float TEXT_SIZE_SP = 12f;
+
+        private final Paint backPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        private final float radius;
+
+        // Count characters are stored here to avoid strings allocation during drawing
+        private final char[] countChars = new char[10];
+
+        public DefaultClusterDrawer(@NonNull Context context) {
+            radius = UnitsUtils.toPixels(context, RADIUS_DP);
+
+            backPaint.setColor(BACK_COLOR);
+            textPaint.setColor(TEXT_COLOR);
+            textPaint.setTextAlign(Paint.Align.CENTER);
+            textPaint.setTextSize(
+                    UnitsUtils.toPixels(context, TypedValue.COMPLEX_UNIT_SP, TEXT_SIZE_SP));
+        }
+
+        @Override
+        public void drawCluster(@NonNull Canvas canvas, float x, float y, int count) {
+            canvas.drawCircle(x, y, radius, backPaint);
+
+            int start = countChars.length;
+            int value = count;
+            while (start == countChars.length || (value > 0 && start > 0)) {
+                countChars[--start] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+
+            final float textY = y - 0.5f * (textPaint.descent() + textPaint.ascent());
+            canvas.drawText(countChars, start, countChars.length - start, x, textY, textPaint);
+        }
+    }
+
+}
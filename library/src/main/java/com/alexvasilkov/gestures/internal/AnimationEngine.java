@@ -9,8 +9,13 @@ public abstract class AnimationEngine implements Runnable {
 
     private static final long FRAME_TIME = 10L;
 
+    // Debug counters, accessed from main thread only
+    private static int runningCount;
+    private static long stepsCount;
+
     private final View view;
     private final Fps fps;
+    private boolean isRunning;
 
     public AnimationEngine(@NonNull View view) {
         this.view = view;
@@ -20,6 +25,7 @@ public abstract class AnimationEngine implements Runnable {
     @Override
     public final void run() {
         boolean continueAnimation = onStep();
+        stepsCount++;
 
         if (fps != null) {
             fps.step();
@@ -30,6 +36,8 @@ public abstract class AnimationEngine implements Runnable {
 
         if (continueAnimation) {
             scheduleNextStep();
+        } else {
+            setRunning(false);
         }
     }
 
@@ -49,7 +57,29 @@ public abstract class AnimationEngine implements Runnable {
             fps.start();
         }
 
+        setRunning(true);
         scheduleNextStep();
     }
 
+    private void setRunning(boolean running) {
+        if (isRunning != running) {
+            isRunning = running;
+            runningCount += running ? 1 : -1;
+        }
+    }
+
+    /**
+     * @return Number of currently running animation engines, for debug purposes.
+     */
+    public static int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * @return Total number of animation steps performed by all engines, for debug purposes.
+     */
+    public static long getStepsCount() {
+        return stepsCount;
+    }
+
 }
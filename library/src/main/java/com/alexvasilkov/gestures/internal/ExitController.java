@@ -25,6 +25,9 @@ public class ExitController {
 
     private static final float EXIT_THRESHOLD = 0.75f;
 
+    // Fling velocity is projected this far (in seconds) to predict final exit state
+    private static final float FLING_PREDICTION_TIME = 0.15f;
+
     private static final float MIN_EXIT_STATE = 0.01f; // Ensure we'll not hit 0 accidentally
 
     // Temporary objects
@@ -52,6 +55,7 @@ public class ExitController {
     private float zoomAccumulator = 1f;
 
     private float scrollDirection;
+    private float flingVelocityY;
     private float initialY;
     private float initialZoom;
 
@@ -143,9 +147,15 @@ public class ExitController {
     }
 
     /**
+     * @param vx The velocity of this fling measured in pixels per second along the x axis
+     * @param vy The velocity of this fling measured in pixels per second along the y axis
      * @return true if fling was consumed, false otherwise.
      */
-    public boolean onFling() {
+    public boolean onFling(float vx, float vy) {
+        if (isScrollDetected) {
+            // Fling velocity will be used to predict whether we should exit or not
+            flingVelocityY = vy;
+        }
         return isExitDetected();
     }
 
@@ -289,7 +299,7 @@ public class ExitController {
                 // Exiting or returning to initial state if the view is not yet animating
 
                 final float position = animator.getPosition();
-                final boolean isLeaving = position < EXIT_THRESHOLD;
+                final boolean isLeaving = predictExitState(position) < EXIT_THRESHOLD;
 
                 if (isLeaving) {
                     animator.exit(true);
@@ -320,11 +330,30 @@ public class ExitController {
         skipScrollDetection = false;
         exitState = 1f;
         scrollDirection = 0f;
+        flingVelocityY = 0f;
         totalScrollX = 0f;
         totalScrollY = 0f;
         zoomAccumulator = 1f;
     }
 
+    /**
+     * Predicts final exit state by projecting current fling velocity (if any), so a quick flick
+     * will exit even if the view was not dragged far enough, and vice versa.
+     */
+    private float predictExitState(float exitState) {
+        if (!isScrollDetected || flingVelocityY == 0f || scrollDirection == 0f) {
+            return exitState;
+        }
+
+        final float total = scrollDirection * SCROLL_FACTOR * Math.max(
+                controller.getSettings().getMovementAreaW(),
+                controller.getSettings().getMovementAreaH());
+        final float predictedY = controller.getState().getY()
+                + flingVelocityY * FLING_PREDICTION_TIME;
+
+        return 1f - (predictedY - initialY) / total;
+    }
+
     private void updateState() {
         if (canDetectExit()) {
             animatorView.getPositionAnimator().setToState(controller.getState(), exitState);
@@ -4,6 +4,7 @@ public class GestureDebug {
 
     private static boolean debugFps;
     private static boolean debugAnimator;
+    private static boolean debugTimings;
     private static boolean drawDebugOverlay;
 
     private GestureDebug() {}
@@ -25,6 +26,19 @@ public class GestureDebug {
         debugAnimator = debug;
     }
 
+    public static boolean isDebugTimings() {
+        return debugTimings;
+    }
+
+    /**
+     * Enables collecting of touch handling timings, see {@link TouchTimings}.
+     *
+     * @param debug Whether to collect touch timings
+     */
+    public static void setDebugTimings(boolean debug) {
+        debugTimings = debug;
+    }
+
     public static boolean isDrawDebugOverlay() {
         return drawDebugOverlay;
     }
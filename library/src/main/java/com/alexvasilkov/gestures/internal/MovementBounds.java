@@ -1,6 +1,5 @@
 package com.alexvasilkov.gestures.internal;
 
-import android.graphics.Matrix;
 import android.graphics.Point;
 import android.graphics.PointF;
 import android.graphics.Rect;
@@ -10,6 +9,8 @@ import androidx.annotation.NonNull;
 
 import com.alexvasilkov.gestures.Settings;
 import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.core.BoundsMath;
+import com.alexvasilkov.gestures.core.FloatRect;
 import com.alexvasilkov.gestures.utils.GravityUtils;
 import com.alexvasilkov.gestures.utils.MathUtils;
 
@@ -20,11 +21,14 @@ import com.alexvasilkov.gestures.utils.MathUtils;
  * Movement bounds can be represented using regular rectangle most of the time. But if fit method
  * is set to {@link Settings.Fit#OUTSIDE} and image has rotation != 0 then movement bounds will be
  * a rotated rectangle. That will complicate restrictions logic a bit.
+ * <p>
+ * Rotated rectangles are computed with {@link BoundsMath}, which handles rotations by right angles
+ * (the most common case) with closed-form math.
  */
 public class MovementBounds {
 
     // Temporary objects
-    private static final Matrix tmpMatrix = new Matrix();
+    private static final FloatRect tmpFloatRect = new FloatRect();
     private static final float[] tmpPointArr = new float[2];
     private static final Point tmpPoint = new Point();
     private static final Rect tmpRect = new Rect();
@@ -37,6 +41,9 @@ public class MovementBounds {
     private float boundsRotation;
     private float boundsPivotX;
     private float boundsPivotY;
+    // Precomputed bounds rotation values, see rotate(...) methods
+    private float boundsCos = 1f;
+    private float boundsSin = 0f;
 
     public MovementBounds(@NonNull Settings settings) {
         this.settings = settings;
@@ -56,28 +63,45 @@ public class MovementBounds {
 
         final Rect pos = tmpRect;
 
-        if (settings.getFitMethod() == Settings.Fit.OUTSIDE) {
+        final boolean isOutside = settings.getFitMethod() == Settings.Fit.OUTSIDE;
+        final float rotation = state.getRotation();
+        final int quarterTurns = BoundsMath.getQuarterTurns(rotation);
+
+        if (isOutside) {
             // For OUTSIDE fit method we will rotate area rect instead of image rect,
             // that will help us correctly fit movement area inside image rect
-            boundsRotation = state.getRotation();
+            boundsRotation = rotation;
             boundsPivotX = area.centerX();
             boundsPivotY = area.centerY();
 
-            if (!State.equals(boundsRotation, 0f)) {
-                tmpMatrix.setRotate(-boundsRotation, boundsPivotX, boundsPivotY);
-                tmpMatrix.mapRect(area);
+            if (quarterTurns >= 0) {
+                setBoundsRotation(quarterTurns);
+            } else {
+                setBoundsRotation(boundsRotation);
             }
+
+            final FloatRect rotatedArea = tmpFloatRect;
+            rotatedArea.set(area.left, area.top, area.right, area.bottom);
+            BoundsMath.rotateRect(rotatedArea, -boundsRotation, boundsPivotX, boundsPivotY);
+            area.set(rotatedArea.left, rotatedArea.top, rotatedArea.right, rotatedArea.bottom);
         } else {
             boundsRotation = 0f;
             boundsPivotX = boundsPivotY = 0f;
+            setBoundsRotation(0);
         }
 
-        state.get(tmpMatrix);
-        if (!State.equals(boundsRotation, 0f)) {
-            // Removing image rotation
-            tmpMatrix.postRotate(-boundsRotation, boundsPivotX, boundsPivotY);
+        final float imageW = settings.getImageW() * state.getZoom();
+        final float imageH = settings.getImageH() * state.getZoom();
+
+        if (isOutside || quarterTurns % 2 == 0) {
+            // Image rotation is removed for OUTSIDE fit method or image is rotated by 0 or 180
+            GravityUtils.getImagePosition(imageW, imageH, settings, pos);
+        } else if (quarterTurns >= 0) {
+            // Image is rotated by 90 or 270 degrees
+            GravityUtils.getImagePosition(imageH, imageW, settings, pos);
+        } else {
+            GravityUtils.getImagePosition(state, settings, pos);
         }
-        GravityUtils.getImagePosition(tmpMatrix, settings, pos);
 
         // Calculating movement bounds for top-left corner of the scaled image
         switch (settings.getBoundsType()) {
@@ -105,22 +129,26 @@ public class MovementBounds {
         // will be somewhere on the edge of non-rotated bounding rectangle.
         // Note: for OUTSIDE fit method image rotation was skipped above, so we will not need
         // to adjust bounds here.
-        if (settings.getFitMethod() != Settings.Fit.OUTSIDE) {
-            state.get(tmpMatrix);
-
-            RectF imageRect = tmpRectF;
-            imageRect.set(0, 0, settings.getImageW(), settings.getImageH());
-            tmpMatrix.mapRect(imageRect);
-
-            tmpPointArr[0] = tmpPointArr[1] = 0f;
-            tmpMatrix.mapPoints(tmpPointArr);
-
-            bounds.offset(tmpPointArr[0] - imageRect.left, tmpPointArr[1] - imageRect.top);
+        if (!isOutside) {
+            BoundsMath.getRotatedOrigin(imageW, imageH, rotation, tmpPointArr);
+            bounds.offset(tmpPointArr[0], tmpPointArr[1]);
         }
 
         return this;
     }
 
+    private void setBoundsRotation(int quarterTurns) {
+        // Exact values for right angles
+        boundsCos = quarterTurns == 0 ? 1f : quarterTurns == 2 ? -1f : 0f;
+        boundsSin = quarterTurns == 1 ? 1f : quarterTurns == 3 ? -1f : 0f;
+    }
+
+    private void setBoundsRotation(float rotation) {
+        final double angle = Math.toRadians(rotation);
+        boundsCos = (float) Math.cos(angle);
+        boundsSin = (float) Math.sin(angle);
+    }
+
     private void calculateNormalBounds(RectF area, Rect pos) {
         // horizontal bounds
         if (area.width() < pos.width()) {
@@ -178,13 +206,7 @@ public class MovementBounds {
 
     private void calculatePivotBounds(Rect pos) {
         GravityUtils.getDefaultPivot(settings, tmpPoint);
-        tmpPointArr[0] = tmpPoint.x;
-        tmpPointArr[1] = tmpPoint.y;
-
-        if (!State.equals(boundsRotation, 0f)) {
-            tmpMatrix.setRotate(-boundsRotation, boundsPivotX, boundsPivotY);
-            tmpMatrix.mapPoints(tmpPointArr);
-        }
+        rotateInverse(tmpPoint.x, tmpPoint.y);
 
         bounds.left = tmpPointArr[0] - pos.width();
         bounds.right = tmpPointArr[0];
@@ -194,26 +216,24 @@ public class MovementBounds {
 
 
     public void extend(float x, float y) {
-        tmpPointArr[0] = x;
-        tmpPointArr[1] = y;
-
-        if (boundsRotation != 0f) {
-            // Rotating given point so we can add it to bounds
-            tmpMatrix.setRotate(-boundsRotation, boundsPivotX, boundsPivotY);
-            tmpMatrix.mapPoints(tmpPointArr);
-        }
+        // Rotating given point so we can add it to bounds
+        rotateInverse(x, y);
 
         bounds.union(tmpPointArr[0], tmpPointArr[1]);
     }
 
 
     public void getExternalBounds(@NonNull RectF out) {
-        if (boundsRotation == 0f) {
-            out.set(bounds);
-        } else {
-            tmpMatrix.setRotate(boundsRotation, boundsPivotX, boundsPivotY);
-            tmpMatrix.mapRect(out, bounds);
-        }
+        // Bounding rectangle of the bounds rotated around bounds pivot point
+        final float cos = Math.abs(boundsCos);
+        final float sin = Math.abs(boundsSin);
+        final float halfW = 0.5f * (bounds.width() * cos + bounds.height() * sin);
+        final float halfH = 0.5f * (bounds.width() * sin + bounds.height() * cos);
+
+        rotate(bounds.centerX(), bounds.centerY());
+
+        out.set(tmpPointArr[0] - halfW, tmpPointArr[1] - halfH,
+                tmpPointArr[0] + halfW, tmpPointArr[1] + halfH);
     }
 
     /**
@@ -226,26 +246,18 @@ public class MovementBounds {
      * @param out Output rectangle
      */
     public void restrict(float x, float y, float extraX, float extraY, @NonNull PointF out) {
-        tmpPointArr[0] = x;
-        tmpPointArr[1] = y;
-
-        if (boundsRotation != 0f) {
-            // Rotating given point so we can apply rectangular bounds.
-            tmpMatrix.setRotate(-boundsRotation, boundsPivotX, boundsPivotY);
-            tmpMatrix.mapPoints(tmpPointArr);
-        }
+        // Rotating given point so we can apply rectangular bounds.
+        // Note, that no rotation will be applied if bounds rotation is 0.
+        rotateInverse(x, y);
 
         // Applying restrictions
-        tmpPointArr[0] = MathUtils.restrict(tmpPointArr[0],
+        final float restrictedX = MathUtils.restrict(tmpPointArr[0],
                 bounds.left - extraX, bounds.right + extraX);
-        tmpPointArr[1] = MathUtils.restrict(tmpPointArr[1],
+        final float restrictedY = MathUtils.restrict(tmpPointArr[1],
                 bounds.top - extraY, bounds.bottom + extraY);
 
-        if (boundsRotation != 0f) {
-            // Rotating restricted point back to original coordinates
-            tmpMatrix.setRotate(boundsRotation, boundsPivotX, boundsPivotY);
-            tmpMatrix.mapPoints(tmpPointArr);
-        }
+        // Rotating restricted point back to original coordinates
+        rotate(restrictedX, restrictedY);
 
         out.set(tmpPointArr[0], tmpPointArr[1]);
     }
@@ -254,4 +266,27 @@ public class MovementBounds {
         restrict(x, y, 0f, 0f, out);
     }
 
+
+    /**
+     * Rotates given point by bounds rotation around bounds pivot point,
+     * storing result into {@link #tmpPointArr}.
+     */
+    private void rotate(float x, float y) {
+        final float dx = x - boundsPivotX;
+        final float dy = y - boundsPivotY;
+        tmpPointArr[0] = boundsPivotX + dx * boundsCos - dy * boundsSin;
+        tmpPointArr[1] = boundsPivotY + dx * boundsSin + dy * boundsCos;
+    }
+
+    /**
+     * Rotates given point by inverse bounds rotation around bounds pivot point,
+     * storing result into {@link #tmpPointArr}.
+     */
+    private void rotateInverse(float x, float y) {
+        final float dx = x - boundsPivotX;
+        final float dy = y - boundsPivotY;
+        tmpPointArr[0] = boundsPivotX + dx * boundsCos + dy * boundsSin;
+        tmpPointArr[1] = boundsPivotY - dx * boundsSin + dy * boundsCos;
+    }
+
 }
@@ -0,0 +1,72 @@
+package com.alexvasilkov.gestures.internal;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+/**
+ * State representation which does not depend on viewport and image sizes: zoom relative to
+ * fit zoom, image point (relative to image size) shown in the viewport's center and rotation.
+ */
+public class NormalizedState implements Parcelable {
+
+    public static final Creator<NormalizedState> CREATOR = new Creator<NormalizedState>() {
+        @Override
+        public NormalizedState createFromParcel(Parcel in) {
+            return new NormalizedState(
+                    in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+        }
+
+        @Override
+        public NormalizedState[] newArray(int size) {
+            return new NormalizedState[size];
+        }
+    };
+
+    private final float zoom;
+    private final float centerX;
+    private final float centerY;
+    private final float rotation;
+
+    /**
+     * @param zoom Zoom relative to fit zoom
+     * @param centerX X coordinate of image point in viewport center, relative to image width
+     * @param centerY Y coordinate of image point in viewport center, relative to image height
+     * @param rotation Rotation in degrees
+     */
+    public NormalizedState(float zoom, float centerX, float centerY, float rotation) {
+        this.zoom = zoom;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.rotation = rotation;
+    }
+
+    public float getZoom() {
+        return zoom;
+    }
+
+    public float getCenterX() {
+        return centerX;
+    }
+
+    public float getCenterY() {
+        return centerY;
+    }
+
+    public float getRotation() {
+        return rotation;
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeFloat(zoom);
+        dest.writeFloat(centerX);
+        dest.writeFloat(centerY);
+        dest.writeFloat(rotation);
+    }
+
+}
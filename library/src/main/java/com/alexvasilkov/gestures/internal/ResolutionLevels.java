@@ -0,0 +1,83 @@
+package com.alexvasilkov.gestures.internal;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Converts continuous image pixels per screen pixel ratio into discrete resolution levels
+ * according to provided thresholds. Hysteresis is applied around each threshold, so the level
+ * will not flicker if the ratio is changing near the threshold.
+ * <p>
+ * Level 0 means that ratio is greater than all thresholds, level N means that ratio is smaller
+ * than N greatest thresholds.
+ */
+public class ResolutionLevels {
+
+    public static final int UNKNOWN = -1;
+
+    private final float[] thresholds; // Sorted in descending order
+    private final float hysteresis;
+
+    private int level = UNKNOWN;
+
+    /**
+     * @param thresholds Image pixels per screen pixel thresholds, in any order
+     * @param hysteresis Relative distance from threshold (i.e. 0.1 for 10%) which should be passed
+     * to actually cross the threshold
+     */
+    public ResolutionLevels(@NonNull float[] thresholds, float hysteresis) {
+        this.thresholds = thresholds.clone();
+        Arrays.sort(this.thresholds);
+        // Reversing to have descending order
+        for (int i = 0, size = this.thresholds.length; i < size / 2; i++) {
+            final float tmp = this.thresholds[i];
+            this.thresholds[i] = this.thresholds[size - 1 - i];
+            this.thresholds[size - 1 - i] = tmp;
+        }
+        this.hysteresis = hysteresis;
+    }
+
+    /**
+     * @param ratio Current image pixels per screen pixel ratio
+     * @return Whether resolution level was changed or not.
+     */
+    public boolean update(float ratio) {
+        final int count = thresholds.length;
+        int newLevel = level;
+
+        if (newLevel == UNKNOWN) {
+            // Initial level is computed without hysteresis
+            newLevel = 0;
+            while (newLevel < count && ratio < thresholds[newLevel]) {
+                newLevel++;
+            }
+        } else {
+            while (newLevel < count && ratio < thresholds[newLevel] * (1f - hysteresis)) {
+                newLevel++;
+            }
+            while (newLevel > 0 && ratio > thresholds[newLevel - 1] * (1f + hysteresis)) {
+                newLevel--;
+            }
+        }
+
+        if (newLevel != level) {
+            level = newLevel;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Forgets current level, so that next {@link #update(float)} call will report a change.
+     */
+    public void reset() {
+        level = UNKNOWN;
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.alexvasilkov.gestures.internal;
+
+import android.os.Build;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.view.MotionEvent;
+
+import androidx.annotation.NonNull;
+
+import com.alexvasilkov.gestures.GestureController;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Collects durations of touch handling stages, starting from the moment {@link MotionEvent}
+ * arrives into {@link GestureController} and till all state listeners are notified.
+ * <p>
+ * Used only if {@link GestureDebug#isDebugTimings()} is enabled. Each stage is also marked
+ * with {@link Trace} sections, so it can be found in systrace or Perfetto traces.
+ * <p>
+ * Only the last {@link #CAPACITY} touch events are kept, see {@link #snapshot()}.
+ */
+public class TouchTimings {
+
+    public static final int CAPACITY = 256;
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final long NANOS_IN_MILLI = 1_000_000L;
+
+    private final long[][] samples = new long[STAGES.length][CAPACITY];
+    private final int[] counts = new int[STAGES.length];
+
+    private final long[] stageStarts = new long[STAGES.length];
+    private final long[] stageTotals = new long[STAGES.length];
+    private final boolean[] stageUsed = new boolean[STAGES.length];
+
+    private boolean isEventInProgress;
+    private long eventTime;
+
+    public void onEventStart(@NonNull MotionEvent event) {
+        isEventInProgress = true;
+        eventTime = event.getEventTime();
+        Arrays.fill(stageTotals, 0L);
+        Arrays.fill(stageUsed, false);
+    }
+
+    public void onEventEnd() {
+        if (!isEventInProgress) {
+            return;
+        }
+        isEventInProgress = false;
+
+        // Event time is provided in uptime millis, so latency will have millis precision
+        stageTotals[Stage.LATENCY.ordinal()] =
+                (SystemClock.uptimeMillis() - eventTime) * NANOS_IN_MILLI;
+        stageUsed[Stage.LATENCY.ordinal()] = true;
+
+        for (int i = 0; i < STAGES.length; i++) {
+            if (stageUsed[i]) {
+                samples[i][counts[i] % CAPACITY] = stageTotals[i];
+                counts[i]++;
+            }
+        }
+    }
+
+    public void begin(@NonNull Stage stage) {
+        if (isEventInProgress) {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+                Trace.beginSection(stage.section);
+            }
+            stageStarts[stage.ordinal()] = System.nanoTime();
+        }
+    }
+
+    public void end(@NonNull Stage stage) {
+        if (isEventInProgress) {
+            stageTotals[stage.ordinal()] += System.nanoTime() - stageStarts[stage.ordinal()];
+            stageUsed[stage.ordinal()] = true;
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) {
+                Trace.endSection();
+            }
+        }
+    }
+
+    /**
+     * @return Copy of currently collected timings.
+     */
+    @NonNull
+    public Snapshot snapshot() {
+        long[][] sorted = new long[STAGES.length][];
+        for (int i = 0; i < STAGES.length; i++) {
+            sorted[i] = Arrays.copyOf(samples[i], Math.min(counts[i], CAPACITY));
+            Arrays.sort(sorted[i]);
+        }
+        return new Snapshot(sorted);
+    }
+
+    /**
+     * Removes all collected timings.
+     */
+    @SuppressWarnings("unused") // Public API
+    public void reset() {
+        Arrays.fill(counts, 0);
+    }
+
+
+    public enum Stage {
+        /**
+         * Time spent in gesture detectors, including gesture callbacks.
+         */
+        DISPATCH("GestureDispatch"),
+
+        /**
+         * Time spent applying gestures (translation, zoom, rotation) to the state.
+         */
+        STATE("GestureState"),
+
+        /**
+         * Time spent restricting state bounds.
+         */
+        RESTRICT("GestureRestrict"),
+
+        /**
+         * Time spent notifying state listeners, including views applying the new state.
+         */
+        NOTIFY("GestureNotify"),
+
+        /**
+         * Time between {@link MotionEvent#getEventTime()} and the end of event processing.
+         */
+        LATENCY("GestureLatency");
+
+        final String section;
+
+        Stage(String section) {
+            this.section = section;
+        }
+    }
+
+    /**
+     * Immutable copy of collected timings.
+     */
+    public static class Snapshot {
+
+        private final long[][] sorted;
+
+        Snapshot(long[][] sorted) {
+            this.sorted = sorted;
+        }
+
+        /**
+         * @param stage Touch handling stage
+         * @return Number of collected samples for given stage.
+         */
+        public int getCount(@NonNull Stage stage) {
+            return sorted[stage.ordinal()].length;
+        }
+
+        /**
+         * @param stage Touch handling stage
+         * @param percentile Percentile, within range {@code [0, 100]}
+         * @return Stage duration in milliseconds for given percentile, or 0 if there are
+         * no samples for the given stage.
+         */
+        public float getPercentile(@NonNull Stage stage, float percentile) {
+            final long[] values = sorted[stage.ordinal()];
+            if (values.length == 0) {
+                return 0f;
+            }
+            int index = (int) Math.ceil(0.01f * percentile * values.length) - 1;
+            index = Math.max(0, Math.min(index, values.length - 1));
+            return (float) values[index] / NANOS_IN_MILLI;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (Stage stage : STAGES) {
+                builder.append(String.format(Locale.US, "%s: p50=%.3f, p90=%.3f, p99=%.3f (%d)\n",
+                        stage.name(), getPercentile(stage, 50f), getPercentile(stage, 90f),
+                        getPercentile(stage, 99f), getCount(stage)));
+            }
+            return builder.toString();
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.alexvasilkov.gestures.internal;
+
+import androidx.annotation.NonNull;
+
+import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.utils.MathUtils;
+
+/**
+ * Precomputed interpolation between two states, same as
+ * {@link MathUtils#interpolate(State, State, float, float, State, float, float, float)} but with
+ * zoom and rotation deltas and shortest rotation path computed only once.
+ * <p>
+ * Should be updated with {@link #set(State, float, float, State, float, float)} each time start
+ * or end state is changed.
+ */
+public class TransitionPlan {
+
+    private float startZoom;
+    private float startRotation;
+    private float pivotX;
+    private float pivotY;
+
+    // Start position relative to start pivot point
+    private float offsetX;
+    private float offsetY;
+
+    private float zoomDelta;
+    private float rotationDelta;
+    private float pivotDeltaX;
+    private float pivotDeltaY;
+
+    /**
+     * Computes interpolation parameters, see
+     * {@link MathUtils#interpolate(State, State, float, float, State, float, float, float)}.
+     *
+     * @param start Start state
+     * @param startPivotX Pivot point's X coordinate in start state coordinates
+     * @param startPivotY Pivot point's Y coordinate in start state coordinates
+     * @param end End state
+     * @param endPivotX Pivot point's X coordinate in end state coordinates
+     * @param endPivotY Pivot point's Y coordinate in end state coordinates
+     */
+    public void set(
+            @NonNull State start,
+            float startPivotX,
+            float startPivotY,
+            @NonNull State end,
+            float endPivotX,
+            float endPivotY
+    ) {
+        startZoom = start.getZoom();
+        startRotation = start.getRotation();
+        pivotX = startPivotX;
+        pivotY = startPivotY;
+
+        offsetX = start.getX() - startPivotX;
+        offsetY = start.getY() - startPivotY;
+
+        zoomDelta = State.equals(startZoom, end.getZoom()) ? 0f : end.getZoom() - startZoom;
+
+        // Choosing shortest path to interpolate rotation
+        float fromRotation = startRotation;
+        float toRotation = end.getRotation();
+        if (Math.abs(fromRotation - toRotation) > 180f) {
+            fromRotation = fromRotation < 0f ? fromRotation + 360f : fromRotation;
+            toRotation = toRotation < 0f ? toRotation + 360f : toRotation;
+        }
+        rotationDelta = State.equals(fromRotation, toRotation) ? 0f : toRotation - fromRotation;
+
+        pivotDeltaX = endPivotX - startPivotX;
+        pivotDeltaY = endPivotY - startPivotY;
+    }
+
+    /**
+     * Interpolates from start state to end state by given factor (from 0 to 1),
+     * storing result into out state.
+     *
+     * @param out Interpolated state (output)
+     * @param factor Factor
+     */
+    public void interpolate(@NonNull State out, float factor) {
+        final float zoom = startZoom + zoomDelta * factor;
+        final float scale = startZoom == 0f ? 1f : zoom / startZoom;
+
+        float rotatedX = offsetX;
+        float rotatedY = offsetY;
+        if (rotationDelta != 0f) {
+            final double angle = Math.toRadians(rotationDelta * factor);
+            final float cos = (float) Math.cos(angle);
+            final float sin = (float) Math.sin(angle);
+            rotatedX = cos * offsetX - sin * offsetY;
+            rotatedY = sin * offsetX + cos * offsetY;
+        }
+
+        out.set(pivotX + scale * rotatedX + pivotDeltaX * factor,
+                pivotY + scale * rotatedY + pivotDeltaY * factor,
+                zoom,
+                startRotation + rotationDelta * factor);
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.alexvasilkov.gestures.internal;
+
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+import androidx.viewpager2.widget.ViewPager2;
+
+import com.alexvasilkov.gestures.GestureController;
+import com.alexvasilkov.gestures.State;
+
+/**
+ * Splits scroll movements between view controlled by {@link GestureController} and it's parent
+ * {@link ViewPager2}.
+ * <p>
+ * Unlike {@link androidx.viewpager.widget.ViewPager} integration no touch events are passed to
+ * the pager, instead the part of the scroll which cannot be consumed by the view is applied to
+ * the pager in the same frame using {@link ViewPager2#fakeDragBy(float)}. Pager will settle
+ * itself once the gesture is over.
+ * <p>
+ * This class is only loaded when ViewPager2 integration is requested, since ViewPager2 library
+ * is an optional dependency.
+ */
+public class ViewPager2Scroller {
+
+    // Temporary objects
+    private static final RectF tmpRectF = new RectF();
+
+    private final GestureController controller;
+    private final ViewPager2 pager;
+    private final PagerPositionListener positionListener = new PagerPositionListener();
+
+    private boolean isDisabled;
+    private boolean isScrollGestureDetected;
+    private boolean isSkipPager;
+
+    // Pager scroll (in pixels) which was applied during current gesture
+    private float pagerScroll;
+
+    public ViewPager2Scroller(@NonNull GestureController controller, @NonNull ViewPager2 pager) {
+        this.controller = controller;
+        this.pager = pager;
+        pager.registerOnPageChangeCallback(positionListener);
+    }
+
+    public void release() {
+        endDrag();
+        pager.unregisterOnPageChangeCallback(positionListener);
+    }
+
+    public void setDisabled(boolean disabled) {
+        isDisabled = disabled;
+        if (disabled) {
+            endDrag();
+        }
+    }
+
+    public void onDown() {
+        isScrollGestureDetected = false;
+        isSkipPager = false;
+        pagerScroll = 0f;
+        endDrag();
+    }
+
+    public void onUpOrCancel() {
+        // Pager will settle itself once fake drag is finished
+        endDrag();
+    }
+
+    public void onSecondPointerDown() {
+        // Skipping pager dragging if we're not started dragging yet
+        // to allow scale/rotation gestures
+        isSkipPager = !isDragged();
+    }
+
+    /**
+     * @return Whether current scroll event should be skipped. First scroll event can stutter
+     * a bit, so we will ignore it for smoother scrolling.
+     */
+    public boolean skipFirstScroll() {
+        if (!isScrollGestureDetected) {
+            isScrollGestureDetected = true;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isHorizontal() {
+        return pager.getOrientation() == ViewPager2.ORIENTATION_HORIZONTAL;
+    }
+
+    /**
+     * @return Whether pager was dragged during current gesture.
+     */
+    public boolean isDragged() {
+        // Ignoring sub-pixel scroll
+        return pagerScroll < -1f || pagerScroll > 1f;
+    }
+
+    /**
+     * Scrolls pager for the part of the given distance which cannot be consumed by the view.
+     *
+     * @param distance Scroll distance along pager's orientation
+     * @param isHorizontal Whether pager is horizontal
+     * @return Distance at which pager was actually scrolled.
+     */
+    public float scrollBy(float distance, boolean isHorizontal) {
+        if (isSkipPager || isDisabled || distance == 0f) {
+            return 0f;
+        }
+
+        final State state = controller.getState();
+        controller.getStateController().getMovementArea(state, tmpRectF);
+
+        final float dir = Math.signum(distance);
+        final float movement = Math.abs(distance); // always >= 0, no direction info
+
+        // Available movement distances (always >= 0, no direction info)
+        float availableView;
+        if (!controller.getSettings().isPanEnabled()) {
+            availableView = 0f;
+        } else if (isHorizontal) {
+            availableView = dir < 0 ? state.getX() - tmpRectF.left : tmpRectF.right - state.getX();
+        } else {
+            availableView = dir < 0 ? state.getY() - tmpRectF.top : tmpRectF.bottom - state.getY();
+        }
+        availableView = Math.max(0f, availableView); // Can be overscrolled in same direction
+        final float availablePager = dir * pagerScroll < 0f ? Math.abs(pagerScroll) : 0f;
+
+        final float pagerMovement;
+        if (availablePager >= movement) {
+            // Only pager is moved (back to its initial position)
+            pagerMovement = movement;
+        } else if (availableView + availablePager >= movement) {
+            // Moving pager for full available distance and moving view for remaining distance
+            pagerMovement = availablePager;
+        } else {
+            // Moving view for full available distance and moving pager for remaining distance
+            pagerMovement = movement - availableView;
+        }
+
+        if (pagerMovement == 0f) {
+            return 0f;
+        }
+
+        final float actualMovement = dir * performDrag(pagerMovement * dir, isHorizontal);
+        pagerScroll += actualMovement;
+        return actualMovement;
+    }
+
+    /*
+     * Drags pager by given distance and returns absolute distance at which pager was
+     * actually scrolled. Pager cannot be scrolled beyond first and last pages.
+     */
+    private float performDrag(float distance, boolean isHorizontal) {
+        if (!pager.isFakeDragging()) {
+            if (pager.getScrollState() == ViewPager2.SCROLL_STATE_IDLE) {
+                // Pager is settled, no scroll events are received yet for current position
+                positionListener.position = pager.getCurrentItem();
+            }
+            if (!pager.beginFakeDrag()) {
+                return 0f; // Pager is dragged by user already
+            }
+        }
+
+        final float pageSize = isHorizontal
+                ? pager.getWidth() - pager.getPaddingLeft() - pager.getPaddingRight()
+                : pager.getHeight() - pager.getPaddingTop() - pager.getPaddingBottom();
+
+        final float positionBefore = positionListener.position;
+        // Pager handles RTL layout direction itself
+        pager.fakeDragBy(distance);
+        final float positionAfter = positionListener.position;
+
+        return Math.min(Math.abs(distance), Math.abs(positionAfter - positionBefore) * pageSize);
+    }
+
+    private void endDrag() {
+        if (pager.isFakeDragging()) {
+            pager.endFakeDrag();
+        }
+    }
+
+
+    private static class PagerPositionListener extends ViewPager2.OnPageChangeCallback {
+        // Current pager position, including offset
+        float position;
+
+        @Override
+        public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
+            this.position = position + positionOffset;
+        }
+    }
+
+}
@@ -1,12 +1,10 @@
 package com.alexvasilkov.gestures.internal;
 
-import android.graphics.Matrix;
-import android.graphics.RectF;
-
 import androidx.annotation.NonNull;
 
 import com.alexvasilkov.gestures.Settings;
 import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.core.ZoomMath;
 import com.alexvasilkov.gestures.utils.MathUtils;
 
 /**
@@ -19,11 +17,14 @@ import com.alexvasilkov.gestures.utils.MathUtils;
  */
 public class ZoomBounds {
 
-    // Temporary objects
-    private static final Matrix tmpMatrix = new Matrix();
-    private static final RectF tmpRectF = new RectF();
-
     private final Settings settings;
+    private final float[] tmpBounds = new float[3];
+
+    // Cached fit zoom, only valid for the same settings geometry and rotation
+    private boolean isFitZoomCached;
+    private int cachedGeometryVersion;
+    private float cachedRotation;
+    private float cachedFitZoom;
 
     // State bounds parameters
     private float minZoom;
@@ -41,93 +42,61 @@ public class ZoomBounds {
      * @return Current zoom bounds object for calls chaining.
      */
     public ZoomBounds set(@NonNull State state) {
-        float imageWidth = settings.getImageW();
-        float imageHeight = settings.getImageH();
-
-        float areaWidth = settings.getMovementAreaW();
-        float areaHeight = settings.getMovementAreaH();
-
-        if (imageWidth == 0f || imageHeight == 0f || areaWidth == 0f || areaHeight == 0f) {
+        if (settings.getImageW() == 0 || settings.getImageH() == 0
+                || settings.getMovementAreaW() == 0 || settings.getMovementAreaH() == 0) {
             minZoom = maxZoom = fitZoom = 1f;
             return this;
         }
 
-        minZoom = settings.getMinZoom();
-        maxZoom = settings.getMaxZoom();
-
-        final float rotation = state.getRotation();
-
-        if (!State.equals(rotation, 0f)) {
-            if (settings.getFitMethod() == Settings.Fit.OUTSIDE) {
-                // Computing movement area size taking rotation into account. We need to inverse
-                // rotation, since it will be applied to the area, not to the image itself.
-                tmpMatrix.setRotate(-rotation);
-                tmpRectF.set(0, 0, areaWidth, areaHeight);
-                tmpMatrix.mapRect(tmpRectF);
-                areaWidth = tmpRectF.width();
-                areaHeight = tmpRectF.height();
-            } else {
-                // Computing image bounding size taking rotation into account.
-                tmpMatrix.setRotate(rotation);
-                tmpRectF.set(0, 0, imageWidth, imageHeight);
-                tmpMatrix.mapRect(tmpRectF);
-                imageWidth = tmpRectF.width();
-                imageHeight = tmpRectF.height();
-            }
+        final float baseFitZoom;
+        if (settings.getFitMethod() == Settings.Fit.NONE) {
+            baseFitZoom = settings.getMinZoom() > 0f ? settings.getMinZoom() : 1f;
+        } else {
+            baseFitZoom = computeFitZoom(state.getRotation());
+        }
+
+        ZoomMath.resolveBounds(settings.getMinZoom(), settings.getMaxZoom(), baseFitZoom,
+                settings.isFillViewport(), tmpBounds);
+        minZoom = tmpBounds[ZoomMath.MIN];
+        maxZoom = tmpBounds[ZoomMath.MAX];
+        fitZoom = tmpBounds[ZoomMath.FIT];
+        return this;
+    }
+
+
+    /**
+     * Computes fit zoom for given rotation, reusing previously computed value if neither rotation
+     * nor image size, movement area size and fit method were changed.
+     */
+    private float computeFitZoom(float rotation) {
+        final int version = settings.getGeometryVersion();
+        if (isFitZoomCached && cachedGeometryVersion == version && cachedRotation == rotation) {
+            return cachedFitZoom;
         }
 
-        switch (settings.getFitMethod()) {
+        final float result = ZoomMath.computeFitZoom(toFit(settings.getFitMethod()),
+                settings.getImageW(), settings.getImageH(),
+                settings.getMovementAreaW(), settings.getMovementAreaH(), rotation);
+
+        isFitZoomCached = true;
+        cachedGeometryVersion = version;
+        cachedRotation = rotation;
+        cachedFitZoom = result;
+        return result;
+    }
+
+    private static ZoomMath.Fit toFit(Settings.Fit fit) {
+        switch (fit) {
             case HORIZONTAL:
-                fitZoom = areaWidth / imageWidth;
-                break;
+                return ZoomMath.Fit.HORIZONTAL;
             case VERTICAL:
-                fitZoom = areaHeight / imageHeight;
-                break;
+                return ZoomMath.Fit.VERTICAL;
             case INSIDE:
-                fitZoom = Math.min(areaWidth / imageWidth, areaHeight / imageHeight);
-                break;
+                return ZoomMath.Fit.INSIDE;
             case OUTSIDE:
-                fitZoom = Math.max(areaWidth / imageWidth, areaHeight / imageHeight);
-                break;
-            case NONE:
             default:
-                fitZoom = minZoom > 0f ? minZoom : 1f;
-        }
-
-        if (minZoom <= 0f) {
-            minZoom = fitZoom;
-        }
-        if (maxZoom <= 0f) {
-            maxZoom = fitZoom;
+                return ZoomMath.Fit.OUTSIDE;
         }
-
-        if (fitZoom > maxZoom) {
-            if (settings.isFillViewport()) {
-                // zooming to fill entire viewport
-                maxZoom = fitZoom;
-            } else {
-                // restricting fit zoom
-                fitZoom = maxZoom;
-            }
-        }
-        // Now we have: fitZoom <= maxZoom
-
-        if (minZoom > maxZoom) {
-            minZoom = maxZoom;
-        }
-        // Now we have: minZoom <= maxZoom
-
-        if (fitZoom < minZoom) {
-            if (settings.isFillViewport()) {
-                // zooming to fill entire viewport
-                minZoom = fitZoom;
-            } else {
-                // restricting fit zoom
-                fitZoom = minZoom;
-            }
-        }
-        // Now we have: minZoom <= fitZoom <= maxZoom
-        return this;
     }
 
 
@@ -8,9 +8,11 @@ import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.viewpager.widget.ViewPager;
 
+import com.alexvasilkov.gestures.Settings;
 import com.alexvasilkov.gestures.animation.ViewPosition;
 import com.alexvasilkov.gestures.internal.GestureDebug;
 import com.alexvasilkov.gestures.views.interfaces.AnimatorView;
+import com.alexvasilkov.gestures.views.interfaces.GestureView;
 
 /**
  * Main purpose of this class is to synchronize views of same item in two different sources
@@ -30,6 +32,10 @@ import com.alexvasilkov.gestures.views.interfaces.AnimatorView;
  * with {@link #setFromView(Object, View)} (or {@link #setFromPos(Object, ViewPosition)}) and
  * {@link #setToView(Object, AnimatorView)} methods. When both views are ready method
  * {@link OnViewsReadyListener#onViewsReady(Object)} will be triggered.
+ * <p>
+ * Listener set with {@link #setPrefetchListener(OnPrefetchListener)} is notified as soon as
+ * an item is requested, before any views lookup. It can be used to start loading heavy data
+ * (i.e. full size image) in parallel with views lookup and transition animation.
  */
 @SuppressWarnings("WeakerAccess") // Public API (methods)
 public class ViewsCoordinator<ID> {
@@ -39,6 +45,11 @@ public class ViewsCoordinator<ID> {
     private OnRequestViewListener<ID> fromListener;
     private OnRequestViewListener<ID> toListener;
     private OnViewsReadyListener<ID> readyListener;
+    private OnPrefetchListener<ID> prefetchListener;
+
+    // Last known 'to' viewport size
+    private int toViewportW;
+    private int toViewportH;
 
     private ID requestedId;
     private ID fromId;
@@ -61,6 +72,24 @@ public class ViewsCoordinator<ID> {
         readyListener = listener;
     }
 
+    @SuppressWarnings("unused") // Public API
+    public void setPrefetchListener(@Nullable OnPrefetchListener<ID> listener) {
+        prefetchListener = listener;
+    }
+
+    /**
+     * Sets expected 'to' viewport size which will be reported to
+     * {@link OnPrefetchListener#onPrefetch(Object, int, int)}. It is updated automatically from
+     * 'to' views, but can be provided manually if 'to' views were not laid out yet.
+     *
+     * @param width Viewport width
+     * @param height Viewport height
+     */
+    public void setToViewportSize(int width, int height) {
+        toViewportW = width;
+        toViewportH = height;
+    }
+
     public void request(@NonNull ID id) {
         if (fromListener == null) {
             throw new RuntimeException("'from' listener is not set");
@@ -76,6 +105,11 @@ public class ViewsCoordinator<ID> {
         }
 
         requestedId = id;
+
+        if (prefetchListener != null) {
+            prefetchListener.onPrefetch(id, toViewportW, toViewportH);
+        }
+
         fromListener.onRequestView(id);
         toListener.onRequestView(id);
     }
@@ -174,6 +208,14 @@ public class ViewsCoordinator<ID> {
 
         onToViewChanged(this.toView, toView);
 
+        if (toView instanceof GestureView) {
+            // Remembering viewport size for next prefetch requests
+            final Settings settings = ((GestureView) toView).getController().getSettings();
+            if (settings.hasViewportSize()) {
+                setToViewportSize(settings.getViewportW(), settings.getViewportH());
+            }
+        }
+
         toId = id;
         this.toView = toView;
         notifyWhenReady();
@@ -241,6 +283,21 @@ public class ViewsCoordinator<ID> {
         void onRequestView(@NonNull ID id);
     }
 
+    public interface OnPrefetchListener<ID> {
+        /**
+         * Will be called as soon as given item is requested, before 'from' and 'to' views
+         * are looked up. Can be used to start loading full size image in advance.
+         * <p>
+         * Viewport size of the last known 'to' view is provided (see
+         * {@link #setToViewportSize(int, int)}), it will be 0 if no 'to' views were laid out yet.
+         *
+         * @param id Requested item ID
+         * @param viewportWidth Expected 'to' viewport width, or 0 if not known yet
+         * @param viewportHeight Expected 'to' viewport height, or 0 if not known yet
+         */
+        void onPrefetch(@NonNull ID id, int viewportWidth, int viewportHeight);
+    }
+
     public interface OnViewsReadyListener<ID> {
         /**
          * Will be called when both 'from' and 'to' views for given item index are ready.
@@ -2,10 +2,16 @@ package com.alexvasilkov.gestures.utils;
 
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.PaintFlagsDrawFilter;
+import android.graphics.Picture;
 import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.alexvasilkov.gestures.GestureController;
@@ -14,10 +20,19 @@ import com.alexvasilkov.gestures.State;
 
 public class CropUtils {
 
+    // Temporary objects
+    private static final Rect tmpRect = new Rect();
+    private static final Matrix tmpMatrix = new Matrix();
+    private static final PaintFlagsDrawFilter filter = new PaintFlagsDrawFilter(0,
+            Paint.FILTER_BITMAP_FLAG | Paint.ANTI_ALIAS_FLAG | Paint.DITHER_FLAG);
+
     private CropUtils() {}
 
     /**
      * Crops image drawable into bitmap according to current image position.
+     * <p>
+     * To crop full resolution image elsewhere (i.e. on server) use
+     * {@link GestureController#getCropDescriptor()} instead.
      *
      * @param drawable Image drawable
      * @param controller Image controller
@@ -25,6 +40,24 @@ public class CropUtils {
      */
     @Nullable
     public static Bitmap crop(Drawable drawable, GestureController controller) {
+        return crop(drawable, controller, null);
+    }
+
+    /**
+     * Crops image drawable into bitmap according to current image position, using given options
+     * to control output size, bitmap config and bitmap reuse.
+     *
+     * @param drawable Image drawable
+     * @param controller Image controller
+     * @param options Crop options, or {@code null} to use defaults
+     * @return Cropped image part, can be the bitmap passed to {@link Options#setReuseBitmap}
+     */
+    @Nullable
+    public static Bitmap crop(
+            Drawable drawable,
+            GestureController controller,
+            @Nullable Options options
+    ) {
         if (drawable == null) {
             return null;
         }
@@ -37,27 +70,57 @@ public class CropUtils {
         final float zoom = state.getZoom();
 
         // Computing crop size for base zoom level (zoom == 1)
-        int width = Math.round(settings.getMovementAreaW() / zoom);
-        int height = Math.round(settings.getMovementAreaH() / zoom);
+        final float baseWidth = settings.getMovementAreaW() / zoom;
+        final float baseHeight = settings.getMovementAreaH() / zoom;
+
+        // Downscaling to fit max size, if requested
+        float scale = 1f;
+        if (options != null && options.maxWidth > 0) {
+            scale = Math.min(scale, options.maxWidth / baseWidth);
+        }
+        if (options != null && options.maxHeight > 0) {
+            scale = Math.min(scale, options.maxHeight / baseHeight);
+        }
+
+        final int width = Math.max(1, Math.round(baseWidth * scale));
+        final int height = Math.max(1, Math.round(baseHeight * scale));
 
         // Crop area coordinates within viewport
-        Rect pos = new Rect();
+        final Rect pos = tmpRect;
         GravityUtils.getMovementAreaPosition(settings, pos);
 
-        Matrix matrix = new Matrix();
+        final Matrix matrix = tmpMatrix;
         state.get(matrix);
-        // Scaling to base zoom level (zoom == 1)
-        matrix.postScale(1f / zoom, 1f / zoom, pos.left, pos.top);
+        // Scaling to base zoom level (zoom == 1) and to requested output size
+        matrix.postScale(scale / zoom, scale / zoom, pos.left, pos.top);
         // Positioning crop area
         matrix.postTranslate(-pos.left, -pos.top);
 
+        Bitmap.Config config = options == null ? Bitmap.Config.ARGB_8888 : options.config;
+        if (Build.VERSION.SDK_INT >= 26 && Build.VERSION.SDK_INT < 28
+                && config == Bitmap.Config.HARDWARE) {
+            // Hardware bitmaps can only be created from Picture on API 28+
+            config = Bitmap.Config.ARGB_8888;
+        }
+
         try {
-            // Draw drawable into bitmap
-            Bitmap dst = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            if (Build.VERSION.SDK_INT >= 28 && config == Bitmap.Config.HARDWARE) {
+                // Hardware bitmaps cannot be drawn into, recording drawing commands instead
+                final Picture picture = new Picture();
+                draw(picture.beginRecording(width, height), matrix, drawable, scale);
+                picture.endRecording();
+                return Bitmap.createBitmap(picture, width, height, config);
+            }
 
-            Canvas canvas = new Canvas(dst);
-            canvas.concat(matrix);
-            drawable.draw(canvas);
+            final Bitmap reuse = options == null ? null : options.reuseBitmap;
+            Bitmap dst = reuse == null ? null : obtainBitmap(reuse, width, height, config);
+            if (dst != null) {
+                dst.eraseColor(Color.TRANSPARENT);
+            } else {
+                dst = Bitmap.createBitmap(width, height, config);
+            }
+
+            draw(new Canvas(dst), matrix, drawable, scale);
 
             return dst;
         } catch (OutOfMemoryError e) {
@@ -65,4 +128,133 @@ public class CropUtils {
         }
     }
 
+    private static void draw(Canvas canvas, Matrix matrix, Drawable drawable, float scale) {
+        if (scale < 1f) {
+            // Filtering image when downscaling it
+            canvas.setDrawFilter(filter);
+        }
+        canvas.concat(matrix);
+        drawable.draw(canvas);
+        canvas.setDrawFilter(null);
+    }
+
+    /**
+     * Returns given bitmap if it can be reused for the crop (reconfiguring it if needed),
+     * or {@code null} otherwise.
+     */
+    @Nullable
+    private static Bitmap obtainBitmap(
+            @NonNull Bitmap bitmap,
+            int width,
+            int height,
+            Bitmap.Config config
+    ) {
+        if (bitmap.isRecycled() || !bitmap.isMutable()) {
+            return null;
+        }
+        if (bitmap.getWidth() == width && bitmap.getHeight() == height
+                && bitmap.getConfig() == config) {
+            return bitmap;
+        }
+        if (Build.VERSION.SDK_INT >= 19) {
+            final int bytesPerPixel = getBytesPerPixel(config);
+            if (bytesPerPixel > 0
+                    && bitmap.getAllocationByteCount() >= width * height * bytesPerPixel) {
+                try {
+                    bitmap.reconfigure(width, height, config);
+                    return bitmap;
+                } catch (IllegalArgumentException e) {
+                    return null; // Bitmap cannot be reconfigured, new one will be allocated
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns number of bytes per pixel for given config, or 0 if it is not known.
+     */
+    private static int getBytesPerPixel(Bitmap.Config config) {
+        if (Build.VERSION.SDK_INT >= 26 && config == Bitmap.Config.RGBA_F16) {
+            return 8;
+        }
+        switch (config) {
+            case ARGB_8888:
+                return 4;
+            case RGB_565:
+            case ARGB_4444:
+                return 2;
+            case ALPHA_8:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+
+    /**
+     * Crop options, see {@link #crop(Drawable, GestureController, Options)}.
+     */
+    @SuppressWarnings("unused") // Public API
+    public static class Options {
+
+        private int maxWidth;
+        private int maxHeight;
+        private Bitmap.Config config = Bitmap.Config.ARGB_8888;
+        private Bitmap reuseBitmap;
+
+        /**
+         * Max size of cropped bitmap. Cropped image is downscaled (with filtering) to fit into
+         * this size while being drawn, so no intermediate full size bitmap is created.
+         * Default is 0, meaning no restrictions.
+         * <p>
+         * Note, that downscaling uses single step bilinear filtering, which starts to show
+         * aliasing once image is reduced more than twice. If that is noticeable, use a source
+         * image of lower resolution (i.e. decoded with {@code inSampleSize}) which is closer
+         * to the output size, rather than lowering max size which only increases the reduction.
+         *
+         * @param width Max width, or 0 to not restrict width
+         * @param height Max height, or 0 to not restrict height
+         * @return Current options object for calls chaining
+         */
+        @NonNull
+        public Options setMaxSize(int width, int height) {
+            maxWidth = width;
+            maxHeight = height;
+            return this;
+        }
+
+        /**
+         * Config of cropped bitmap, e.g. {@link Bitmap.Config#RGB_565} to save memory or
+         * {@code RGBA_F16} to preserve wide color gamut. Default is
+         * {@link Bitmap.Config#ARGB_8888}.
+         * <p>
+         * {@code HARDWARE} config is supported on API 28+, such bitmaps are not reused.
+         * {@link Bitmap.Config#ARGB_8888} is used instead of {@code HARDWARE} on API 26 and 27.
+         *
+         * @param config Bitmap config
+         * @return Current options object for calls chaining
+         */
+        @NonNull
+        public Options setConfig(@NonNull Bitmap.Config config) {
+            this.config = config;
+            return this;
+        }
+
+        /**
+         * Bitmap to draw cropped image into instead of allocating new one, e.g. bitmap returned
+         * by previous crop. It is used if it is mutable and either has the same size and config
+         * or (on API 19+) has enough allocated memory to be reconfigured.
+         *
+         * @param bitmap Bitmap to reuse, or {@code null}
+         * @return Current options object for calls chaining
+         */
+        @NonNull
+        public Options setReuseBitmap(@Nullable Bitmap bitmap) {
+            reuseBitmap = bitmap;
+            return this;
+        }
+
+    }
+
 }
@@ -4,20 +4,20 @@ import android.graphics.Matrix;
 import android.graphics.Point;
 import android.graphics.Rect;
 import android.graphics.RectF;
-import android.view.Gravity;
 
 import androidx.annotation.NonNull;
 
 import com.alexvasilkov.gestures.Settings;
 import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.core.FloatRect;
+import com.alexvasilkov.gestures.core.GravityMath;
 
 public class GravityUtils {
 
     private static final Matrix tmpMatrix = new Matrix();
     private static final RectF tmpRectF = new RectF();
 
-    private static final Rect tmpRect1 = new Rect();
-    private static final Rect tmpRect2 = new Rect();
+    private static final FloatRect tmpFloatRect = new FloatRect();
 
 
     private GravityUtils() {}
@@ -54,12 +54,31 @@ public class GravityUtils {
 
         matrix.mapRect(tmpRectF);
 
-        final int w = Math.round(tmpRectF.width());
-        final int h = Math.round(tmpRectF.height());
+        getImagePosition(tmpRectF.width(), tmpRectF.height(), settings, out);
+    }
+
+    /**
+     * Calculates image position within viewport area with gravity applied, given the size
+     * of image's bounding rectangle (scaled and rotated).
+     *
+     * @param width Image bounding width
+     * @param height Image bounding height
+     * @param settings Image settings
+     * @param out Output rectangle
+     */
+    public static void getImagePosition(
+            float width,
+            float height,
+            @NonNull Settings settings,
+            @NonNull Rect out
+    ) {
+        final int w = Math.round(width);
+        final int h = Math.round(height);
 
         // Calculating image position basing on gravity
-        tmpRect1.set(0, 0, settings.getViewportW(), settings.getViewportH());
-        Gravity.apply(settings.getGravity(), w, h, tmpRect1, out);
+        GravityMath.apply(settings.getGravity(), w, h,
+                settings.getViewportW(), settings.getViewportH(), tmpFloatRect);
+        set(out, tmpFloatRect);
     }
 
     /**
@@ -69,9 +88,10 @@ public class GravityUtils {
      * @param out Output rectangle
      */
     public static void getMovementAreaPosition(@NonNull Settings settings, @NonNull Rect out) {
-        tmpRect1.set(0, 0, settings.getViewportW(), settings.getViewportH());
-        Gravity.apply(settings.getGravity(),
-                settings.getMovementAreaW(), settings.getMovementAreaH(), tmpRect1, out);
+        GravityMath.apply(settings.getGravity(),
+                settings.getMovementAreaW(), settings.getMovementAreaH(),
+                settings.getViewportW(), settings.getViewportH(), tmpFloatRect);
+        set(out, tmpFloatRect);
     }
 
     /**
@@ -81,9 +101,20 @@ public class GravityUtils {
      * @param out Output point
      */
     public static void getDefaultPivot(@NonNull Settings settings, @NonNull Point out) {
-        getMovementAreaPosition(settings, tmpRect2);
-        Gravity.apply(settings.getGravity(), 0, 0, tmpRect2, tmpRect1);
-        out.set(tmpRect1.left, tmpRect1.top);
+        GravityMath.apply(settings.getGravity(),
+                settings.getMovementAreaW(), settings.getMovementAreaH(),
+                settings.getViewportW(), settings.getViewportH(), tmpFloatRect);
+        final int areaLeft = (int) tmpFloatRect.left;
+        final int areaTop = (int) tmpFloatRect.top;
+
+        GravityMath.apply(settings.getGravity(), 0, 0,
+                (int) tmpFloatRect.width(), (int) tmpFloatRect.height(), tmpFloatRect);
+        out.set(areaLeft + (int) tmpFloatRect.left, areaTop + (int) tmpFloatRect.top);
+    }
+
+    // Gravity math only produces integer coordinates
+    private static void set(@NonNull Rect out, @NonNull FloatRect rect) {
+        out.set((int) rect.left, (int) rect.top, (int) rect.right, (int) rect.bottom);
     }
 
 }
@@ -8,6 +8,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Size;
 
 import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.core.StateMath;
 
 public class MathUtils {
 
@@ -26,7 +27,7 @@ public class MathUtils {
      * @return Restricted value
      */
     public static float restrict(float value, float minValue, float maxValue) {
-        return Math.max(minValue, Math.min(value, maxValue));
+        return StateMath.restrict(value, minValue, maxValue);
     }
 
     /**
@@ -38,7 +39,7 @@ public class MathUtils {
      * @return Interpolated value
      */
     public static float interpolate(float start, float end, float factor) {
-        return start + (end - start) * factor;
+        return StateMath.interpolate(start, end, factor);
     }
 
     /**
@@ -116,26 +117,8 @@ public class MathUtils {
             out.zoomTo(zoom, startPivotX, startPivotY);
         }
 
-        // Getting rotations
-        float startRotation = start.getRotation();
-        float endRotation = end.getRotation();
-
-        float rotation = Float.NaN;
-
-        // Choosing shortest path to interpolate
-        if (Math.abs(startRotation - endRotation) <= 180f) {
-            if (!State.equals(startRotation, endRotation)) {
-                rotation = interpolate(startRotation, endRotation, factor);
-            }
-        } else {
-            // Keeping rotation positive
-            float startRotationPositive = startRotation < 0f ? startRotation + 360f : startRotation;
-            float endRotationPositive = endRotation < 0f ? endRotation + 360f : endRotation;
-
-            if (!State.equals(startRotationPositive, endRotationPositive)) {
-                rotation = interpolate(startRotationPositive, endRotationPositive, factor);
-            }
-        }
+        float rotation =
+                StateMath.interpolateRotation(start.getRotation(), end.getRotation(), factor);
 
         if (!Float.isNaN(rotation)) {
             out.rotateTo(rotation, startPivotX, startPivotY);
@@ -146,6 +129,39 @@ public class MathUtils {
         out.translateBy(dx, dy);
     }
 
+    /**
+     * Interpolates {@code count} states at once, same as
+     * {@link #interpolate(State, State, float, float, State, float, float, float)} but without
+     * using intermediate {@link State} and {@link Matrix} objects.
+     * <p>
+     * States are stored in arrays of size {@code 4 * count}, where first {@code count} elements
+     * are X coordinates, next {@code count} elements are Y coordinates, then zoom levels and then
+     * rotations. Pivot points are stored in arrays of size {@code 2 * count}, where first
+     * {@code count} elements are X coordinates and next {@code count} elements are Y coordinates.
+     * <p>
+     * Note, that X and Y coordinates of end states are not used, same as in single state method.
+     *
+     * @param out Interpolated states (output)
+     * @param start Start states
+     * @param startPivots Pivot points in start states coordinates
+     * @param end End states
+     * @param endPivots Pivot points in end states coordinates
+     * @param count Number of states
+     * @param factor Factor
+     */
+    @SuppressWarnings("unused") // Public API
+    public static void interpolate(
+            @NonNull float[] out,
+            @NonNull float[] start,
+            @NonNull float[] startPivots,
+            @NonNull float[] end,
+            @NonNull float[] endPivots,
+            int count,
+            float factor
+    ) {
+        StateMath.interpolate(out, start, startPivots, end, endPivots, count, factor);
+    }
+
     public static void computeNewPosition(
             @NonNull @Size(2) float[] point,
             @NonNull State initialState,
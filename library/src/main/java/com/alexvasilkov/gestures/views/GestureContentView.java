@@ -0,0 +1,181 @@
+package com.alexvasilkov.gestures.views;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.PointF;
+import android.graphics.RectF;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+import com.alexvasilkov.gestures.GestureController;
+import com.alexvasilkov.gestures.GestureControllerForPager;
+import com.alexvasilkov.gestures.Settings;
+import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.commons.ContentIndex;
+import com.alexvasilkov.gestures.internal.DebugOverlay;
+import com.alexvasilkov.gestures.internal.GestureDebug;
+import com.alexvasilkov.gestures.views.interfaces.GestureView;
+
+/**
+ * Base class for views drawing custom content (i.e. vector scenes or diagrams) controlled by
+ * {@link GestureController} ({@link #getController()}).
+ * <p>
+ * Content size should be set with {@link #setContentSize(int, int)}, and content should be drawn
+ * in {@link #onDrawContent(Canvas, RectF)} using content coordinates. Only the part of the content
+ * within provided visible rect is actually visible, so large content can be culled to only draw
+ * visible items.
+ * <p>
+ * Inverse transformation is cached and only recomputed when state is changed, touch points can be
+ * converted into content coordinates with {@link #toContentPoint(float, float, PointF)}.
+ * Use {@link ContentIndex} to find content items for given point or visible area.
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public abstract class GestureContentView extends View implements GestureView {
+
+    private final GestureControllerForPager controller;
+
+    private final Matrix matrix = new Matrix();
+    private final Matrix matrixInverse = new Matrix();
+    private final RectF visibleRect = new RectF();
+    private final float[] tmpPointArray = new float[2];
+
+    private boolean isInverseDirty = true;
+
+    public GestureContentView(Context context) {
+        this(context, null, 0);
+    }
+
+    public GestureContentView(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public GestureContentView(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+
+        controller = new GestureControllerForPager(this);
+        controller.getSettings().initFromAttributes(context, attrs);
+        controller.addOnStateChangeListener(new GestureController.OnStateChangeListener() {
+            @Override
+            public void onStateChanged(State state) {
+                applyState(state);
+            }
+
+            @Override
+            public void onStateReset(State oldState, State newState) {
+                applyState(newState);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public GestureControllerForPager getController() {
+        return controller;
+    }
+
+    /**
+     * Sets content size, see {@link Settings#setImage(int, int)}. State will be reset.
+     *
+     * @param width Content width
+     * @param height Content height
+     */
+    public void setContentSize(int width, int height) {
+        controller.getSettings().setImage(width, height);
+        controller.resetState();
+    }
+
+    /**
+     * Returns currently visible part of the content, in content coordinates. If content is rotated
+     * then bounding rect of the visible area is returned.
+     * <p>
+     * Returned rect is reused and should not be modified.
+     */
+    @NonNull
+    public RectF getVisibleContentRect() {
+        ensureInverseUpdated();
+        return visibleRect;
+    }
+
+    /**
+     * Converts point from this view's coordinates (i.e. touch event coordinates) into content
+     * coordinates.
+     *
+     * @param viewX Point's X coordinate relative to this view
+     * @param viewY Point's Y coordinate relative to this view
+     * @param out Point in content coordinates (output)
+     */
+    public void toContentPoint(float viewX, float viewY, @NonNull PointF out) {
+        ensureInverseUpdated();
+        tmpPointArray[0] = viewX - getPaddingLeft();
+        tmpPointArray[1] = viewY - getPaddingTop();
+        matrixInverse.mapPoints(tmpPointArray);
+        out.set(tmpPointArray[0], tmpPointArray[1]);
+    }
+
+    /**
+     * Draws content with content coordinates, canvas is already transformed with current state.
+     *
+     * @param canvas Canvas to draw on
+     * @param visibleRect Visible part of the content, see {@link #getVisibleContentRect()}
+     */
+    protected abstract void onDrawContent(@NonNull Canvas canvas, @NonNull RectF visibleRect);
+
+    @SuppressLint("ClickableViewAccessibility") // performClick() will be called by controller
+    @Override
+    public boolean onTouchEvent(@NonNull MotionEvent event) {
+        // Using regular touch handling (i.e. clicks) in display-only mode
+        return controller.isDisplayOnly()
+                ? super.onTouchEvent(event) : controller.onTouch(this, event);
+    }
+
+    @Override
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        controller.getSettings().setViewport(width - getPaddingLeft() - getPaddingRight(),
+                height - getPaddingTop() - getPaddingBottom());
+        controller.resetState();
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+
+        final RectF visible = getVisibleContentRect();
+
+        canvas.save();
+        canvas.translate(getPaddingLeft(), getPaddingTop());
+        canvas.concat(matrix);
+        onDrawContent(canvas, visible);
+        canvas.restore();
+
+        if (GestureDebug.isDrawDebugOverlay()) {
+            DebugOverlay.drawDebug(this, canvas);
+        }
+    }
+
+    protected void applyState(@NonNull State state) {
+        state.get(matrix);
+        isInverseDirty = true;
+        invalidate();
+    }
+
+    private void ensureInverseUpdated() {
+        if (isInverseDirty) {
+            isInverseDirty = false;
+            matrix.invert(matrixInverse);
+
+            final Settings settings = controller.getSettings();
+            visibleRect.set(0f, 0f, settings.getViewportW(), settings.getViewportH());
+            matrixInverse.mapRect(visibleRect);
+        }
+    }
+
+}
@@ -140,7 +140,9 @@ public class GestureFrameLayout extends FrameLayout implements GestureView, Anim
     @Override
     public boolean onTouchEvent(@NonNull MotionEvent event) {
         // Passing original event to controller
-        return controller.onTouch(this, currentMotionEvent);
+        // Using regular touch handling (i.e. clicks) in display-only mode
+        return controller.isDisplayOnly()
+                ? super.onTouchEvent(event) : controller.onTouch(this, currentMotionEvent);
     }
 
     @Override
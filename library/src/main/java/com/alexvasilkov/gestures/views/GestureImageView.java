@@ -8,6 +8,8 @@ import android.graphics.Matrix;
 import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.os.Parcel;
+import android.os.Parcelable;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.widget.ImageView;
@@ -36,6 +38,13 @@ import com.alexvasilkov.gestures.views.interfaces.GestureView;
  * <p>
  * View position can be animated with {@link ViewPositionAnimator}
  * ({@link #getPositionAnimator()}).
+ * <p>
+ * Use {@link com.alexvasilkov.gestures.commons.ProgressiveDrawable ProgressiveDrawable} to show
+ * low resolution preview first and to upgrade it to higher resolution images later on without
+ * affecting current state.
+ * <p>
+ * Current zoom and position can be saved along with view's instance state, see
+ * {@link #setSaveControllerState(boolean)}.
  */
 public class GestureImageView extends ImageView
         implements GestureView, ClipView, ClipBounds, AnimatorView {
@@ -46,6 +55,7 @@ public class GestureImageView extends ImageView
     private final Matrix imageMatrix = new Matrix();
 
     private ViewPositionAnimator positionAnimator;
+    private boolean isSaveControllerState;
 
     public GestureImageView(Context context) {
         this(context, null, 0);
@@ -142,10 +152,26 @@ public class GestureImageView extends ImageView
         return CropUtils.crop(getDrawable(), controller);
     }
 
+    /**
+     * Same as {@link #crop()} but allows to control cropped bitmap size and config and to reuse
+     * previously cropped bitmap, see {@link CropUtils.Options}.
+     *
+     * @param options Crop options
+     * @return Cropped bitmap or null, if no image is set to this image view or if
+     * {@link OutOfMemoryError} error was thrown during cropping.
+     */
+    @SuppressWarnings("unused") // Public API
+    @Nullable
+    public Bitmap crop(@Nullable CropUtils.Options options) {
+        return CropUtils.crop(getDrawable(), controller, options);
+    }
+
     @SuppressLint("ClickableViewAccessibility") // performClick() will be called by controller
     @Override
     public boolean onTouchEvent(@NonNull MotionEvent event) {
-        return controller.onTouch(this, event);
+        // Using regular touch handling (i.e. clicks) in display-only mode
+        return controller.isDisplayOnly()
+                ? super.onTouchEvent(event) : controller.onTouch(this, event);
     }
 
     @Override
@@ -156,6 +182,39 @@ public class GestureImageView extends ImageView
         controller.resetState();
     }
 
+    /**
+     * Whether to save current zoom and position along with view's instance state (view should
+     * have a unique id). Saved state is restored once both view size and image size are known.
+     * Disabled by default, since views inside pagers usually share the same id.
+     *
+     * @param save Whether to save controller's state
+     * @see GestureController#saveInstanceState()
+     */
+    public void setSaveControllerState(boolean save) {
+        isSaveControllerState = save;
+    }
+
+    @Override
+    protected Parcelable onSaveInstanceState() {
+        final Parcelable superState = super.onSaveInstanceState();
+        if (!isSaveControllerState) {
+            return superState;
+        }
+        final Parcelable controllerState = controller.saveInstanceState();
+        return controllerState == null ? superState : new SavedState(superState, controllerState);
+    }
+
+    @Override
+    protected void onRestoreInstanceState(Parcelable state) {
+        if (state instanceof SavedState) {
+            final SavedState saved = (SavedState) state;
+            super.onRestoreInstanceState(saved.getSuperState());
+            controller.restoreInstanceState(saved.controllerState);
+        } else {
+            super.onRestoreInstanceState(state);
+        }
+    }
+
     @Override
     public void setImageResource(int resId) {
         setImageDrawable(getDrawable(getContext(), resId));
@@ -213,4 +272,38 @@ public class GestureImageView extends ImageView
         }
     }
 
+
+    private static class SavedState extends BaseSavedState {
+
+        public static final Creator<SavedState> CREATOR = new Creator<SavedState>() {
+            @Override
+            public SavedState createFromParcel(Parcel in) {
+                return new SavedState(in);
+            }
+
+            @Override
+            public SavedState[] newArray(int size) {
+                return new SavedState[size];
+            }
+        };
+
+        final Parcelable controllerState;
+
+        SavedState(Parcelable superState, Parcelable controllerState) {
+            super(superState);
+            this.controllerState = controllerState;
+        }
+
+        SavedState(Parcel in) {
+            super(in);
+            controllerState = in.readParcelable(GestureController.class.getClassLoader());
+        }
+
+        @Override
+        public void writeToParcel(Parcel out, int flags) {
+            super.writeToParcel(out, flags);
+            out.writeParcelable(controllerState, flags);
+        }
+    }
+
 }
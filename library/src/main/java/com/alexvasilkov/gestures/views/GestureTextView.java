@@ -0,0 +1,178 @@
+package com.alexvasilkov.gestures.views;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.MotionEvent;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+
+import com.alexvasilkov.gestures.GestureController;
+import com.alexvasilkov.gestures.GestureController.StateSource;
+import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.internal.DebugOverlay;
+import com.alexvasilkov.gestures.internal.GestureDebug;
+import com.alexvasilkov.gestures.views.interfaces.GestureView;
+
+/**
+ * {@link TextView} implementation which text size is controlled by {@link GestureController}
+ * ({@link #getController()}).
+ * <p>
+ * Changing text size requires full text re-layout, which is too slow to be done on each frame.
+ * So while zoom is changed by user or by animation the already laid out text is drawn scaled,
+ * and actual text size is only applied once state source is back to
+ * {@link StateSource#NONE NONE}.
+ */
+@SuppressWarnings({ "WeakerAccess", "unused" }) // Public API
+public class GestureTextView extends TextView implements GestureView {
+
+    private final GestureController controller;
+
+    // Scale from applied text size to the text size of current state
+    private final Matrix matrix = new Matrix();
+    private boolean isScaled;
+
+    private float origSize;
+    private float size;
+
+    public GestureTextView(Context context) {
+        this(context, null, 0);
+    }
+
+    public GestureTextView(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public GestureTextView(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+
+        controller = new GestureController(this);
+        controller.getSettings().setOverzoomFactor(1f).setPanEnabled(false);
+        controller.getSettings().initFromAttributes(context, attrs);
+        controller.addOnStateChangeListener(new GestureController.OnStateChangeListener() {
+            @Override
+            public void onStateChanged(State state) {
+                applyState(state, false);
+            }
+
+            @Override
+            public void onStateReset(State oldState, State newState) {
+                applyState(newState, true);
+            }
+        });
+        controller.addOnStateSourceChangeListener(
+                new GestureController.OnStateSourceChangeListener() {
+                    @Override
+                    public void onStateSourceChanged(StateSource source) {
+                        if (source == StateSource.NONE) {
+                            applyState(controller.getState(), true);
+                        }
+                    }
+                });
+
+        origSize = getTextSize();
+        size = origSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public GestureController getController() {
+        return controller;
+    }
+
+    @SuppressLint("ClickableViewAccessibility") // performClick will be called by controller
+    @Override
+    public boolean onTouchEvent(@NonNull MotionEvent event) {
+        // Using regular touch handling (i.e. clicks) in display-only mode
+        return controller.isDisplayOnly()
+                ? super.onTouchEvent(event) : controller.onTouch(this, event);
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        super.setTextSize(size);
+        onTextSizeChanged();
+    }
+
+    @Override
+    public void setTextSize(int unit, float size) {
+        super.setTextSize(unit, size);
+        onTextSizeChanged();
+    }
+
+    private void onTextSizeChanged() {
+        // Method can be called from super constructor, before controller is created
+        if (controller != null) {
+            origSize = getTextSize();
+            size = 0f;
+            applyState(controller.getState(), true);
+        }
+    }
+
+    @Override
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        controller.getSettings().setViewport(width, height).setImage(width, height);
+        controller.updateState();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (isScaled) {
+            // Drawing already laid out text scaled from applied text size to current one
+            canvas.save();
+            canvas.concat(matrix);
+            super.onDraw(canvas);
+            canvas.restore();
+        } else {
+            super.onDraw(canvas);
+        }
+
+        if (GestureDebug.isDrawDebugOverlay()) {
+            DebugOverlay.drawDebug(this, canvas);
+        }
+    }
+
+    /**
+     * Applies text size for given state. If {@code force} is {@code false} and state is changed
+     * by user or by animation then text is only drawn scaled without actual text size change.
+     */
+    protected void applyState(@NonNull State state, boolean force) {
+        if (force || controller.getStateSource() == StateSource.NONE) {
+            isScaled = false;
+            applyTextSize(state);
+            invalidate();
+        } else if (size > 0f) {
+            // Scaling already laid out text around text's origin, same as actual text size
+            // change will do, so there is no jump once the text is laid out again
+            final float scale = getTextSize(state) / size;
+            matrix.setScale(scale, scale, getTotalPaddingLeft(), getTotalPaddingTop());
+            isScaled = !State.equals(scale, 1f);
+            invalidate();
+        }
+    }
+
+    private void applyTextSize(State state) {
+        // Bigger text size steps for smoother scaling
+        final float newSize = Math.round(getTextSize(state));
+
+        if (!State.equals(size, newSize)) {
+            size = newSize;
+            super.setTextSize(TypedValue.COMPLEX_UNIT_PX, newSize);
+        }
+    }
+
+    private float getTextSize(State state) {
+        final float newSize = origSize * state.getZoom();
+        final float maxSize = origSize * controller.getStateController().getMaxZoom(state);
+        return Math.max(origSize, Math.min(newSize, maxSize));
+    }
+
+}
@@ -30,6 +30,7 @@ import com.alexvasilkov.gestures.sample.demo.adapter.EndlessRecyclerAdapter;
 import com.alexvasilkov.gestures.sample.demo.adapter.PhotoListAdapter;
 import com.alexvasilkov.gestures.sample.demo.adapter.PhotoPagerAdapter;
 import com.alexvasilkov.gestures.sample.demo.utils.DecorUtils;
+import com.alexvasilkov.gestures.sample.demo.utils.DemoGlideHelper;
 import com.alexvasilkov.gestures.sample.demo.utils.FlickrApi;
 import com.alexvasilkov.gestures.transition.GestureTransitions;
 import com.alexvasilkov.gestures.transition.ViewsTransitionAnimator;
@@ -192,7 +193,7 @@ public class DemoActivity extends BaseSettingsActivity implements PhotoListAdapt
      */
     private void initPager() {
         // Setting up pager adapter
-        pagerAdapter = new PhotoPagerAdapter(getSettingsController());
+        pagerAdapter = new PhotoPagerAdapter(views.pager, getSettingsController());
 
         pagerListener = new ViewPager2.OnPageChangeCallback() {
             @Override
@@ -266,6 +267,14 @@ public class DemoActivity extends BaseSettingsActivity implements PhotoListAdapt
 
         // Setting up and animating image transition
         listAnimator.addPositionUpdateListener(this::applyFullPagerState);
+
+        // Starting full image loading in parallel with the enter animation
+        listAnimator.setPrefetchListener((pos, width, height) -> {
+            final Photo photo = pagerAdapter.getPhoto(pos);
+            if (photo != null) {
+                DemoGlideHelper.preloadFlickrFull(this, photo);
+            }
+        });
     }
 
     /**
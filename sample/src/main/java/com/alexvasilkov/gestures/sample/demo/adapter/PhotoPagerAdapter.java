@@ -5,6 +5,7 @@ import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.viewpager2.widget.ViewPager2;
 
 import com.alexvasilkov.android.commons.ui.Views;
 import com.alexvasilkov.gestures.GestureController;
@@ -22,6 +23,7 @@ public class PhotoPagerAdapter extends RecyclerView.Adapter<PhotoPagerAdapter.Vi
 
     private static final long PROGRESS_DELAY = 200L;
 
+    private final ViewPager2 viewPager;
     private final SettingsController settingsController;
     private List<Photo> photos;
     private ImageClickListener clickListener;
@@ -30,7 +32,8 @@ public class PhotoPagerAdapter extends RecyclerView.Adapter<PhotoPagerAdapter.Vi
 
     private RecyclerView recyclerView;
 
-    public PhotoPagerAdapter(SettingsController listener) {
+    public PhotoPagerAdapter(ViewPager2 viewPager, SettingsController listener) {
+        this.viewPager = viewPager;
         this.settingsController = listener;
     }
 
@@ -72,6 +75,9 @@ public class PhotoPagerAdapter extends RecyclerView.Adapter<PhotoPagerAdapter.Vi
 
         holder.image.setOnClickListener(view -> onImageClick());
 
+        // Enabling smooth scrolling of zoomed images within ViewPager2
+        holder.image.getController().enableScrollInViewPager2(viewPager);
+
         settingsController.apply(holder.image);
 
         holder.image.getPositionAnimator().addPositionUpdateListener((position, isLeaving) ->
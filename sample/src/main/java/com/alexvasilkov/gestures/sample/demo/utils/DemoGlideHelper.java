@@ -1,5 +1,6 @@
 package com.alexvasilkov.gestures.sample.demo.utils;
 
+import android.content.Context;
 import android.graphics.drawable.Drawable;
 import android.widget.ImageView;
 
@@ -77,6 +78,22 @@ public class DemoGlideHelper {
                 .into(image);
     }
 
+    /**
+     * Starts loading full image in advance, so it will be taken from memory cache once
+     * {@link #loadFlickrFull(Photo, ImageView, LoadingListener)} is called.
+     */
+    public static void preloadFlickrFull(Context context, Photo photo) {
+        final RequestOptions options = new RequestOptions()
+                .diskCacheStrategy(DiskCacheStrategy.DATA)
+                .override(Target.SIZE_ORIGINAL, Target.SIZE_ORIGINAL)
+                .dontTransform();
+
+        Glide.with(context)
+                .load(photo.getLarge1600Url())
+                .apply(options)
+                .preload();
+    }
+
     public static void clear(ImageView view) {
         Glide.with(view).clear(view);
         view.setImageDrawable(null);
@@ -56,6 +56,8 @@ class ViewPagerAdapter extends RecyclePagerAdapter<ViewPagerAdapter.ViewHolder>
     @Override
     public void onRecycleViewHolder(@NonNull ViewHolder holder) {
         GlideHelper.clear(holder.image);
+        // Stopping animations and resetting state, settings are re-applied on bind anyway
+        holder.image.getController().recycle(null);
     }
 
     static class ViewHolder extends RecyclePagerAdapter.ViewHolder {
@@ -34,6 +34,9 @@ public class ImageViewerActivity extends BaseSettingsActivity {
                 .setMaxZoom(6f)
                 .setDoubleTapZoom(3f);
 
+        // Keeping zoom and position across configuration changes
+        imageViewer.setSaveControllerState(true);
+
         imageViewer.setOnClickListener(view -> showToast("Single click"));
 
         imageViewer.setOnLongClickListener(view -> {
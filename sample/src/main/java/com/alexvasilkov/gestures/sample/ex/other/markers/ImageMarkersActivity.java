@@ -8,9 +8,11 @@ import androidx.annotation.ColorRes;
 import androidx.core.content.ContextCompat;
 import androidx.core.graphics.drawable.DrawableCompat;
 
+import com.alexvasilkov.gestures.commons.markers.Marker;
+import com.alexvasilkov.gestures.commons.markers.Marker.Mode;
+import com.alexvasilkov.gestures.commons.markers.MarkersOverlay;
 import com.alexvasilkov.gestures.sample.R;
 import com.alexvasilkov.gestures.sample.base.BaseSettingsActivity;
-import com.alexvasilkov.gestures.sample.ex.other.markers.Marker.Mode;
 import com.alexvasilkov.gestures.views.GestureImageView;
 
 /**
@@ -34,7 +36,7 @@ public class ImageMarkersActivity extends BaseSettingsActivity {
         image.setImageResource(R.drawable.world_map);
 
         final MarkersOverlay overlay = findViewById(R.id.markers_overlay);
-        overlay.attachToImage(image);
+        overlay.attachTo(image.getController());
 
         // Adding pins to demonstrate "PIN" and "STICK" behavior.
         // PIN: Icon will be pinned to the image but will not be zoomed and rotated along with it.
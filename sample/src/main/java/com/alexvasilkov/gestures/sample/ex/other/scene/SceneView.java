@@ -7,6 +7,7 @@ import android.graphics.Color;
 import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Rect;
+import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.util.SparseArray;
 import android.view.MotionEvent;
@@ -18,6 +19,7 @@ import androidx.core.content.ContextCompat;
 import com.alexvasilkov.gestures.GestureController;
 import com.alexvasilkov.gestures.Settings;
 import com.alexvasilkov.gestures.State;
+import com.alexvasilkov.gestures.commons.ContentIndex;
 import com.alexvasilkov.gestures.views.interfaces.GestureView;
 
 import java.util.ArrayList;
@@ -26,6 +28,7 @@ import java.util.List;
 public class SceneView extends View implements GestureView {
 
     private static final float BORDER_WIDTH = 2f;
+    private static final int INDEX_CELLS = 8;
 
     private final List<Item> items = new ArrayList<>();
     private final SparseArray<Drawable> images = new SparseArray<>();
@@ -34,6 +37,11 @@ public class SceneView extends View implements GestureView {
     private final Matrix matrix = new Matrix();
     private final Matrix inverseMatrix = new Matrix();
     private final float[] point = new float[2];
+    private final RectF rect = new RectF();
+    private final List<Item> candidates = new ArrayList<>();
+
+    // Items bounds index used to quickly find items under the finger
+    private ContentIndex<Item> index;
 
     private final Paint paint = new Paint();
 
@@ -94,6 +102,8 @@ public class SceneView extends View implements GestureView {
                 width - getPaddingLeft() - getPaddingRight(),
                 height - getPaddingTop() - getPaddingBottom());
         controller.updateState();
+
+        rebuildIndex();
     }
 
     @SuppressLint("ClickableViewAccessibility") // Will be handled by gestures controller
@@ -145,6 +155,27 @@ public class SceneView extends View implements GestureView {
             image.setBounds(0, 0, image.getIntrinsicWidth(), image.getIntrinsicHeight());
             images.put(item.getImageId(), image);
         }
+
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() {
+        if (getWidth() == 0 || getHeight() == 0) {
+            index = null;
+            return;
+        }
+        final float cellSize = (float) Math.max(getWidth(), getHeight()) / INDEX_CELLS;
+        index = new ContentIndex<>(getWidth(), getHeight(), cellSize);
+        for (Item item : items) {
+            index.put(item, getItemBounds(item));
+        }
+    }
+
+    private RectF getItemBounds(Item item) {
+        item.getState().get(matrix);
+        rect.set(images.get(item.getImageId()).getBounds());
+        matrix.mapRect(rect);
+        return rect;
     }
 
 
@@ -152,14 +183,26 @@ public class SceneView extends View implements GestureView {
         // Applying state changes to currently selected item (if any)
         if (selected != null) {
             selected.getState().set(state);
+            if (index != null) {
+                index.put(selected, getItemBounds(selected));
+            }
             invalidate();
         }
     }
 
     private void selectItem(float eventX, float eventY) {
+        if (index == null) {
+            return;
+        }
+
+        // Only checking items which bounding rects contain click event
+        candidates.clear();
+        rect.set(eventX, eventY, eventX, eventY);
+        index.query(rect, candidates);
+
         // Getting first item (in backward order) which contains given click event
-        for (int i = items.size() - 1; i >= 0; i--) {
-            Item item = items.get(i);
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            Item item = candidates.get(i);
             item.getState().get(matrix);
             matrix.invert(inverseMatrix);
 
@@ -4,6 +4,7 @@ import android.os.Bundle;
 
 import com.alexvasilkov.gestures.sample.R;
 import com.alexvasilkov.gestures.sample.base.BaseActivity;
+import com.alexvasilkov.gestures.views.GestureTextView;
 
 /**
  * This example demonstrates creation of custom text view with text size controlled by gestures.